@@ -0,0 +1,81 @@
+package com.paulhammant.ngwebdriver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What PageFactory does for each field of a page object: Annotations.buildBy() through the NgFindByBuilder
+ * of the field's annotation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindByBenchmark {
+
+    @ByAngularBinding.FindBy(binding = "person.name")
+    public WebElement binding;
+
+    @ByAngularExactBinding.FindBy(exactBinding = "person.name")
+    public WebElement exactBinding;
+
+    @ByAngularModel.FindBy(model = "person.name")
+    public WebElement model;
+
+    @ByAngularOptions.FindBy(options = "c for c in colors")
+    public WebElement options;
+
+    @ByAngularButtonText.FindBy(buttonText = "Save")
+    public WebElement buttonText;
+
+    @ByAngularPartialButtonText.FindBy(partialButtonText = "Sav")
+    public WebElement partialButtonText;
+
+    @ByAngularCssContainingText.FindBy(cssSelector = "#animals .pet", searchText = "dog")
+    public WebElement cssContainingText;
+
+    @ByAngularRepeater.FindBy(repeater = "day in days", exact = false)
+    public WebElement repeater;
+
+    @ByAngularRepeaterRow.FindBy(repeater = "day in days", exact = false, row = 2)
+    public WebElement row;
+
+    @ByAngularRepeaterCell.FindBy(repeater = "day in days", exact = false, row = 2, column = "day.name")
+    public WebElement cell;
+
+    @ByAngularRepeaterColumn.FindBy(repeater = "day in days", exact = false, column = "day.name")
+    public WebElement column;
+
+    @Param({"binding", "exactBinding", "model", "options", "buttonText", "partialButtonText", "cssContainingText",
+            "repeater", "row", "cell", "column"})
+    public String fieldName;
+
+    private Field field;
+
+    @Setup
+    public void findField() throws NoSuchFieldException {
+        field = FindByBenchmark.class.getField(fieldName);
+    }
+
+    @Benchmark
+    public By buildBy() {
+        return new Annotations(field).buildBy();
+    }
+}
@@ -0,0 +1,102 @@
+package com.paulhammant.ngwebdriver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Java side of each locator's findElement(..) and findElements(..): building the script and its
+ * arguments, and unpacking the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocatorBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class AnyLocator {
+
+        @Param({"binding", "exactBinding", "model", "options", "buttonText", "partialButtonText", "cssContainingText",
+                "repeater", "row", "cell", "column"})
+        public String locator;
+
+        By by;
+
+        @Setup
+        public void makeLocator() {
+            by = locator(locator);
+        }
+    }
+
+    /**
+     * Row and cell locators have no findElements(..)
+     */
+    @State(Scope.Benchmark)
+    public static class ManyLocator {
+
+        @Param({"binding", "exactBinding", "model", "options", "buttonText", "partialButtonText", "cssContainingText",
+                "repeater", "column"})
+        public String locator;
+
+        By by;
+
+        @Setup
+        public void makeLocator() {
+            by = locator(locator);
+        }
+    }
+
+    private final StubExecutor executor = new StubExecutor();
+
+    @Benchmark
+    public WebElement findElement(AnyLocator state) {
+        return state.by.findElement(executor);
+    }
+
+    @Benchmark
+    public List<WebElement> findElements(ManyLocator state) {
+        return state.by.findElements(executor);
+    }
+
+    private static By locator(String kind) {
+        if (kind.equals("binding")) {
+            return ByAngular.binding("person.name");
+        } else if (kind.equals("exactBinding")) {
+            return ByAngular.exactBinding("person.name");
+        } else if (kind.equals("model")) {
+            return ByAngular.model("person.name");
+        } else if (kind.equals("options")) {
+            return ByAngular.options("c for c in colors");
+        } else if (kind.equals("buttonText")) {
+            return ByAngular.buttonText("Save");
+        } else if (kind.equals("partialButtonText")) {
+            return ByAngular.partialButtonText("Sav");
+        } else if (kind.equals("cssContainingText")) {
+            return ByAngular.cssContainingText("#animals .pet", "dog");
+        } else if (kind.equals("repeater")) {
+            return ByAngular.repeater("day in days");
+        } else if (kind.equals("row")) {
+            return ByAngular.repeater("day in days").row(2);
+        } else if (kind.equals("cell")) {
+            return ByAngular.repeater("day in days").row(2).column("day.name");
+        } else {
+            return ByAngular.repeater("day in days").column("day.name");
+        }
+    }
+}
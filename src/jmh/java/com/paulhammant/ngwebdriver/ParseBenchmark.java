@@ -0,0 +1,59 @@
+package com.paulhammant.ngwebdriver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What ByAngular's static initialization does with clientsidescripts.js, once it has been read, and loading
+ * the index of it that the build makes instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+    private String src;
+
+    @Setup
+    public void readScripts() {
+        src = ByAngular.readClientSideScripts();
+    }
+
+    @Benchmark
+    public Map<String, String> parseFunctions() {
+        Map<String, String> functions = new HashMap<String, String>();
+        ByAngular.iterateOverJsFunctionsInSource(src, functions, new HashMap<String, String>());
+        return functions;
+    }
+
+    @Benchmark
+    public Map<String, String> parseFunctionsAndInlineHelpers() {
+        Map<String, String> functions = new HashMap<String, String>();
+        Map<String, String> functionParameters = new HashMap<String, String>();
+        ByAngular.iterateOverJsFunctionsInSource(src, functions, functionParameters);
+        ByAngular.inlineUtilityFunctionsIfNeeded(functions, functionParameters);
+        return functions;
+    }
+
+    @Benchmark
+    public Map<String, String> loadIndex() {
+        Map<String, String> functions = new HashMap<String, String>();
+        ScriptCatalog.load(src, functions, new HashMap<String, String>());
+        return functions;
+    }
+}
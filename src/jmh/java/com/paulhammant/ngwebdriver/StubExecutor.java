@@ -0,0 +1,34 @@
+package com.paulhammant.ngwebdriver;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Stands in for a browser: every script "finds" the same single element, so that only the Java side is measured.
+ */
+class StubExecutor implements JavascriptExecutor, SearchContext {
+
+    private final List<WebElement> found = Collections.<WebElement>singletonList(new RemoteWebElement());
+
+    public Object executeScript(String script, Object... args) {
+        return found;
+    }
+
+    public Object executeAsyncScript(String script, Object... args) {
+        return found;
+    }
+
+    public List<WebElement> findElements(By by) {
+        return by.findElements(this);
+    }
+
+    public WebElement findElement(By by) {
+        return by.findElement(this);
+    }
+}
@@ -0,0 +1,166 @@
+package com.paulhammant.ngwebdriver;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.util.Map;
+
+/**
+ * A WebDriver that waits for Angular before finding, clicking, typing into or reading the text of elements,
+ * and before executing scripts, as Protractor's browser does, so that waitForAngularRequestsToFinish() need
+ * not be called by hand.
+ * <p>
+ * Waits are only made when something may have started Angular off since the last time it was stable: a click,
+ * typing, navigation, an alert, a switch of window, a script, or a mutate(..) by {@link #getNgWebDriver()}.
+ * Otherwise the command goes straight to the browser. Anything else that can start Angular off, like a timer
+ * in the page, needs a {@link #markDirty()}.
+ * <p>
+ * WebDriver fires no event for getAttribute(..), isDisplayed() and the other reads of an element besides
+ * getText(), so they don't wait. Call {@link #sync()} before them where they may follow a change.
+ */
+public class AutoSyncingWebDriver extends EventFiringWebDriver {
+
+  private final NgWebDriver ngWebDriver;
+  private volatile boolean dirty = true;
+
+  public AutoSyncingWebDriver(WebDriver driver) {
+    this(driver, NgWebDriver.DEFAULT_ROOT_SELECTOR);
+  }
+
+  /**
+   * @param rootSelector like "[ng-app]" (which is the default)
+   */
+  public AutoSyncingWebDriver(WebDriver driver, String rootSelector) {
+    super(driver);
+    // waits go to the driver itself, so they don't fire the events that trigger waits
+    this.ngWebDriver = new NgWebDriver((JavascriptExecutor) driver) {
+      @Override
+      public void mutate(WebElement element, String variable, String value) {
+        super.mutate(element, variable, value);
+        markDirty();
+      }
+
+      @Override
+      public double mutate(WebElement element, String variable, String value, Digest digest) {
+        double millis = super.mutate(element, variable, value, digest);
+        markDirty();
+        return millis;
+      }
+
+      @Override
+      public double mutateAll(WebElement element, Map<String, ?> values, Digest digest) {
+        double millis = super.mutateAll(element, values, digest);
+        markDirty();
+        return millis;
+      }
+    }.withRootSelector(rootSelector);
+    register(new AbstractWebDriverEventListener() {
+      @Override
+      public void beforeFindBy(By by, WebElement element, WebDriver driver) {
+        sync();
+      }
+
+      @Override
+      public void beforeClickOn(WebElement element, WebDriver driver) {
+        sync();
+      }
+
+      @Override
+      public void afterClickOn(WebElement element, WebDriver driver) {
+        markDirty();
+      }
+
+      @Override
+      public void beforeChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend) {
+        sync();
+      }
+
+      @Override
+      public void afterChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend) {
+        markDirty();
+      }
+
+      @Override
+      public void beforeGetText(WebElement element, WebDriver driver) {
+        sync();
+      }
+
+      @Override
+      public void beforeScript(String script, WebDriver driver) {
+        sync();
+      }
+
+      @Override
+      public void afterScript(String script, WebDriver driver) {
+        // a script can change anything
+        markDirty();
+      }
+
+      @Override
+      public void afterNavigateTo(String url, WebDriver driver) {
+        markDirty();
+      }
+
+      @Override
+      public void afterNavigateBack(WebDriver driver) {
+        markDirty();
+      }
+
+      @Override
+      public void afterNavigateForward(WebDriver driver) {
+        markDirty();
+      }
+
+      @Override
+      public void afterNavigateRefresh(WebDriver driver) {
+        markDirty();
+      }
+
+      @Override
+      public void afterAlertAccept(WebDriver driver) {
+        markDirty();
+      }
+
+      @Override
+      public void afterAlertDismiss(WebDriver driver) {
+        markDirty();
+      }
+
+      @Override
+      public void afterSwitchToWindow(String windowName, WebDriver driver) {
+        markDirty();
+      }
+    });
+  }
+
+  /**
+   * @return an NgWebDriver for this driver's page, whose mutate(..)s are followed by a wait before the next command
+   */
+  public NgWebDriver getNgWebDriver() {
+    return ngWebDriver;
+  }
+
+  /**
+   * Have the next command wait for Angular, for when the page was changed in a way this driver can't see.
+   */
+  public void markDirty() {
+    dirty = true;
+  }
+
+  public boolean isDirty() {
+    return dirty;
+  }
+
+  /**
+   * Wait for Angular if it may be busy. It is only known to be stable once a wait has succeeded.
+   */
+  public void sync() {
+    if (dirty && ngWebDriver.waitForAngularRequestsToFinish() == null) {
+      dirty = false;
+    }
+  }
+}
@@ -6,26 +6,89 @@ import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.WrapsDriver;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.paulhammant.ngwebdriver.NgWebDriver.DEFAULT_ROOT_SELECTOR;
 
 public class ByAngular {
 
     protected static final Map<String, String> functions = new HashMap<String, String>();
+    protected static final Map<String, String> functionParameters = new HashMap<String, String>();
+    // the functions without the helpers they call, for scripts that define each helper only once
+    private static final Map<String, String> ownBodies = new HashMap<String, String>();
+
+    // functions of clientsidescripts.js that others call, and so need to be sent along with them
+    private static final List<String> HELPERS = Arrays.asList("parseRepeat", "repeaterMatch", "forEachRepeaterRow",
+            "getNg1Hooks", "digestScope", "findAllRepeaterRows", "findBySelector", "textContentOf", "findButtons",
+            "repeaterRowIdentity", "cssString");
+
+    static final String INSTALLED_NAMESPACE = "window.__ngwd";
+    static final String NOT_INSTALLED = "__ngwd_not_installed__";
+
+    private static final String installScript;
+    private static final Map<String, String> installedCalls = new HashMap<String, String>();
+    private static final Map<String, String> installedAsyncCalls = new HashMap<String, String>();
+    private static final Map<String, String> inlineCalls = new HashMap<String, String>();
+    private static final Map<String, String> inlineAsyncCalls = new HashMap<String, String>();
+    private static final Map<String, String> inlineBatchCalls = new ConcurrentHashMap<String, String>();
+    private static final Map<String, String> projectedCalls = new ConcurrentHashMap<String, String>();
+    private static final Map<String, String> cachedCalls = new ConcurrentHashMap<String, String>();
+
+    private static final String BATCH_CALL = "var calls = arguments[0], found = [];\n" +
+            "for (var i = 0; i < calls.length; i++) {\n" +
+            "  var rv = fns[calls[i][0]].apply(this, calls[i][1]);\n" +
+            "  found.push(rv ? Array.prototype.slice.call(rv) : []);\n" +
+            "}\n" +
+            "return found;";
+    private static final String INSTALLED_BATCH_CALL = "var fns = " + INSTALLED_NAMESPACE + ";\n" +
+            "if (!fns) { return '" + NOT_INSTALLED + "'; }\n" + BATCH_CALL;
+
+    // statements run on the elements a function found, as "found", so that only their count goes back
+    static final String COUNT = "return found ? found.length : 0;";
+    static final String TEXTS = eachFound("found[i].textContent");
+    static final String VALUES = eachFound("found[i].value == null ? null : String(found[i].value)");
+    // the attribute's name is the last argument
+    static final String ATTRIBUTES = eachFound("found[i].getAttribute(arguments[arguments.length - 1])");
+
+    // the prefixes of Angular's directives, in the order clientsidescripts.js tries them
+    private static final String[] PREFIXES = {"ng-", "ng_", "data-ng-", "x-ng-", "ng\\:"};
+
+    private static volatile boolean installScriptsInPage = false;
+    private static volatile boolean nativeSelectors = false;
+    private static volatile boolean cacheResultsInPage = false;
 
     static {
+        String src = readClientSideScripts();
+        if (!ScriptCatalog.load(src, functions, functionParameters)) {
+            // not built by Maven, or the script was edited since, so there's no index of these functions
+            iterateOverJsFunctionsInSource(src, functions, functionParameters);
+        }
+        ownBodies.putAll(functions);
+        inlineUtilityFunctionsIfNeeded(functions, functionParameters);
+        installScript = buildInstallScript();
+        buildInlineCalls();
+
+    }
+
+    static String readClientSideScripts() {
         // in a Jar
         InputStream resourceAsStream = ByAngular.class.getResourceAsStream("/js/clientsidescripts.js");
         if (resourceAsStream == null) {
@@ -36,60 +99,371 @@ public class ByAngular {
                 throw new RuntimeException("Could not find clientsidescripts.js in file system or in jar", e);
             }
         }
-        String src = new Scanner(resourceAsStream, "UTF-8").useDelimiter("\\A").next();
-        iterateOverJsFunctionsInSource(src);
-        inlineUtilityFunctionsIfNeeded();
-
-    }
-
-    private static void iterateOverJsFunctionsInSource(String src) {
-        Pattern ps = Pattern.compile("^function.* \\{$", Pattern.MULTILINE);
-        Pattern pe = Pattern.compile("^\\}", Pattern.MULTILINE);
-        Matcher m = ps.matcher(src);
-        boolean more = true;
-        while (more && m.find()) {
-            src = src.substring(m.start());
-            Matcher m2 = pe.matcher(src);
-            if (m2.find()) {
-                String body = src.substring(0, m2.start());
-                storeJavaScriptFunction(body);
-                src = src.substring(body.length());
-                m = ps.matcher(src);
-            } else {
-                more = false;
+        return new Scanner(resourceAsStream, "UTF-8").useDelimiter("\\A").next();
+    }
+
+    /**
+     * Parse the functions of clientsidescripts.js into the maps given (which the benchmarks do over and over),
+     * without their comments and indentation
+     */
+    static void iterateOverJsFunctionsInSource(String src, Map<String, String> functions, Map<String, String> functionParameters) {
+        ScriptCatalog.parse(src, functions, functionParameters, true);
+    }
+
+    static void inlineUtilityFunctionsIfNeeded(Map<String, String> functions, Map<String, String> functionParameters) {
+        Map<String, String> verbatim = new HashMap<String, String>(functions);
+        for (String functionName : verbatim.keySet()) {
+            functions.put(functionName, helperDefinitions(Collections.singleton(functionName), verbatim, functionParameters)
+                    + verbatim.get(functionName));
+        }
+    }
+
+    /**
+     * @return a var statement for each helper that the functions named call, each helper once
+     */
+    private static String helperDefinitions(Collection<String> functionNames, Map<String, String> verbatim,
+                                            Map<String, String> functionParameters) {
+        Set<String> helpers = new LinkedHashSet<String>();
+        for (String functionName : functionNames) {
+            collectHelpers(functionName, verbatim.get(functionName), verbatim, helpers);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (String helper : helpers) {
+            sb.append("var ").append(helper).append(" = function(").append(functionParameters.get(helper)).append(") {")
+                    .append(verbatim.get(helper)).append("}\n");
+        }
+        return sb.toString();
+    }
+
+    private static void collectHelpers(String functionName, String functionBody, Map<String, String> verbatim, Set<String> helpers) {
+        for (String helper : HELPERS) {
+            if (!helper.equals(functionName) && !helpers.contains(helper) && functionBody.contains(helper)) {
+                helpers.add(helper);
+                collectHelpers(functionName, verbatim.get(helper), verbatim, helpers);
             }
         }
     }
 
-    private static void inlineUtilityFunctionsIfNeeded() {
+    private static String buildInstallScript() {
+        // the helpers are defined once, in a closure that all the installed functions share
+        StringBuilder sb = new StringBuilder("(function() {\n")
+                .append(helperDefinitions(ownBodies.keySet(), ownBodies, functionParameters))
+                .append(INSTALLED_NAMESPACE).append(" = ").append(functionTable(ownBodies.keySet())).append(";\n})();\n");
+        for (String functionName : functions.keySet()) {
+            installedCalls.put(functionName, "return " + INSTALLED_NAMESPACE + " ? " + INSTALLED_NAMESPACE + "." + functionName
+                    + ".apply(this, arguments) : '" + NOT_INSTALLED + "';");
+            installedAsyncCalls.put(functionName, "var args = Array.prototype.slice.call(arguments);\n" +
+                    "if (" + INSTALLED_NAMESPACE + ") { " + INSTALLED_NAMESPACE + "." + functionName + ".apply(this, args); }\n" +
+                    "else { args[args.length - 1]('" + NOT_INSTALLED + "'); }");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return an object literal of the functions named, calling helpers defined around it
+     */
+    private static String functionTable(Collection<String> functionNames) {
+        StringBuilder sb = new StringBuilder("{");
+        String sep = "\n";
+        for (String functionName : functionNames) {
+            sb.append(sep).append(functionName).append(": function(").append(functionParameters.get(functionName))
+                    .append(") {").append(ownBodies.get(functionName)).append("}");
+            sep = ",\n";
+        }
+        return sb.append("\n}").toString();
+    }
+
+    private static void buildInlineCalls() {
         for (String functionName : functions.keySet()) {
-            String functionBody = functions.get(functionName);
-            if (!functionName.equals("repeaterMatch") && functionBody.indexOf("repeaterMatch") > 0) {
-                functionBody = "var repeaterMatch = function(ngRepeat, repeater, exact) {" + functions.get("repeaterMatch") + "}\n" + functionBody;
+            String function = "(function(" + functionParameters.get(functionName) + ") {" + functions.get(functionName) + "})";
+            inlineCalls.put(functionName, "return " + function + ".apply(this, arguments);");
+            inlineAsyncCalls.put(functionName, function + ".apply(this, arguments);");
+        }
+    }
+
+    /**
+     * Install the functions of clientsidescripts.js once per page (on <code>window.__ngwd</code>),
+     * and from then on only send a short call to the installed function rather than its whole body.
+     * A navigation that replaces the page is detected, and the functions are installed again.
+     * @param install true to install the functions in the page, false (the default) to send them each time
+     */
+    public static void setInstallScriptsInPage(boolean install) {
+        installScriptsInPage = install;
+    }
+
+    public static boolean isInstallScriptsInPage() {
+        return installScriptsInPage;
+    }
+
+    /**
+     * Have the locators that a CSS selector answers just as well (model(..) and options(..)) find elements
+     * with the driver's own By.cssSelector(..) rather than a script. Those finds are not reported to
+     * NgWebDriverListeners, and don't go through the page's cache of results (see setCacheResultsInPage(..)).
+     * @param nativeSelectors true for CSS selectors where possible, false (the default) for scripts always
+     */
+    public static void setNativeSelectors(boolean nativeSelectors) {
+        ByAngular.nativeSelectors = nativeSelectors;
+    }
+
+    public static boolean isNativeSelectors() {
+        return nativeSelectors;
+    }
+
+    /**
+     * Keep what each locator found in the page, so that the same search again is answered without looking,
+     * until the DOM changes or AngularJS digests. See {@link NgWebDriver#getResultCacheStatistics()} for
+     * how often that happens.
+     * @param cache true to keep results in the page, false (the default) to search every time
+     */
+    public static void setCacheResultsInPage(boolean cache) {
+        cacheResultsInPage = cache;
+    }
+
+    public static boolean isCacheResultsInPage() {
+        return cacheResultsInPage;
+    }
+
+    /**
+     * @return a selector list for an attribute of a directive with every prefix, like
+     * <code>[ng-model="x"], [ng_model="x"], ...</code>, each followed by the descendant selector given
+     */
+    static String prefixedSelector(String directive, String value, String descendant) {
+        String quoted = '"' + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\a ") + '"';
+        StringBuilder sb = new StringBuilder();
+        for (String prefix : PREFIXES) {
+            sb.append(sb.length() == 0 ? "" : ", ").append('[').append(prefix).append(directive).append('=').append(quoted)
+                    .append(']').append(descendant);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return for each function of clientsidescripts.js, its size in characters as written, minified, and as sent
+     * for each call (with the helpers it calls), then the sizes of them all together and of the install script
+     */
+    public static String scriptSizeReport() {
+        Map<String, String> source = new HashMap<String, String>();
+        ScriptCatalog.parse(readClientSideScripts(), source, new HashMap<String, String>(), false);
+        StringBuilder sb = new StringBuilder(String.format("%-32s %10s %10s %10s%n", "function", "source", "minified", "per call"));
+        int sourceTotal = 0;
+        int minifiedTotal = 0;
+        int perCallTotal = 0;
+        for (String functionName : new TreeSet<String>(functions.keySet())) {
+            int sourceSize = source.get(functionName).length();
+            int minifiedSize = ownBodies.get(functionName).length();
+            int perCallSize = inlineCalls.get(functionName).length();
+            sb.append(String.format("%-32s %10d %10d %10d%n", functionName, sourceSize, minifiedSize, perCallSize));
+            sourceTotal += sourceSize;
+            minifiedTotal += minifiedSize;
+            perCallTotal += perCallSize;
+        }
+        sb.append(String.format("%-32s %10d %10d %10d%n", "all", sourceTotal, minifiedTotal, perCallTotal));
+        sb.append(String.format("%-32s %10s %10s %10d%n", "install script", "", "", installScript.length()));
+        return sb.toString();
+    }
+
+    /**
+     * Tell a listener about every script sent to the browser from now on.
+     */
+    public static void addListener(NgWebDriverListener listener) {
+        Instrumentation.addListener(listener);
+    }
+
+    public static void removeListener(NgWebDriverListener listener) {
+        Instrumentation.removeListener(listener);
+    }
+
+    /**
+     * Call a function of clientsidescripts.js in the browser. The script sent is the same for every call
+     * of the function, whatever the arguments.
+     * @param functionName the name of the function, like "findByModel"
+     * @param args the arguments, in the order of the function's parameters
+     */
+    static Object execute(JavascriptExecutor javascriptExecutor, String functionName, Object... args) {
+        return call(javascriptExecutor, functionName, functionName, null, functionName, args);
+    }
+
+    /**
+     * As execute(..), but with some statements run in the browser before the function is called.
+     */
+    static Object executeAfter(JavascriptExecutor javascriptExecutor, String statements, String functionName, Object... args) {
+        return call(javascriptExecutor, functionName, functionName, statements, functionName, args);
+    }
+
+    /**
+     * @param kind what the call is reported to NgWebDriverListeners as, with the description
+     * @param statements run before the function, or null
+     */
+    private static Object call(JavascriptExecutor javascriptExecutor, String kind, String description, String statements,
+                               String functionName, Object[] args) {
+        if (!installScriptsInPage) {
+            String call = inlineCalls.get(functionName);
+            return Instrumentation.executeScript(javascriptExecutor, kind, description, statements == null ? call : statements + call, args);
+        }
+        String call = installedCalls.get(functionName);
+        if (statements != null) {
+            // the statements mustn't run when the scripts turn out not to be installed, as they are sent again with them
+            call = "if (!" + INSTALLED_NAMESPACE + ") { return '" + NOT_INSTALLED + "'; }\n" + statements + call;
+        }
+        return executeInstalled(javascriptExecutor, kind, description, call, args);
+    }
+
+    /**
+     * As call(..) for a locator's function, but through the page's cache of results if that's turned on
+     */
+    private static Object find(JavascriptExecutor javascriptExecutor, String kind, String description, String functionName,
+                               Object[] args) {
+        if (!cacheResultsInPage) {
+            return call(javascriptExecutor, kind, description, null, functionName, args);
+        }
+        boolean installed = installScriptsInPage;
+        String key = functionName + (installed ? " installed" : "");
+        String call = cachedCalls.get(key);
+        if (call == null) {
+            if (installed) {
+                call = "if (!" + INSTALLED_NAMESPACE + ") { return '" + NOT_INSTALLED + "'; }\n" +
+                        "return " + INSTALLED_NAMESPACE + ".findCached('" + functionName + "', " + INSTALLED_NAMESPACE + "."
+                        + functionName + ", arguments);";
+            } else {
+                call = "return (function(" + functionParameters.get("findCached") + ") {" + functions.get("findCached") + "})('"
+                        + functionName + "', function(" + functionParameters.get(functionName) + ") {" + functions.get(functionName)
+                        + "}, arguments);";
             }
-            if (!functionName.equals("getNg1Hooks") && functionBody.indexOf("getNg1Hooks") > 0) {
-                functionBody = "var getNg1Hooks = function(selector, injectorPlease) {" + functions.get("getNg1Hooks") + "}\n" + functionBody;
+            cachedCalls.put(key, call);
+        }
+        if (!installed) {
+            return Instrumentation.executeScript(javascriptExecutor, kind, description, call, args);
+        }
+        return executeInstalled(javascriptExecutor, kind, description, call, args);
+    }
+
+    static Object executeAsync(JavascriptExecutor javascriptExecutor, String functionName, Object... args) {
+        if (!installScriptsInPage) {
+            return Instrumentation.executeAsyncScript(javascriptExecutor, functionName, functionName, inlineAsyncCalls.get(functionName), args);
+        }
+        String call = installedAsyncCalls.get(functionName);
+        Object rv = Instrumentation.executeAsyncScript(javascriptExecutor, functionName, functionName, call, args);
+        if (NOT_INSTALLED.equals(rv)) {
+            rv = Instrumentation.executeAsyncScript(javascriptExecutor, functionName, functionName, installScript + call, args);
+        }
+        return rv;
+    }
+
+    /**
+     * As execute(..), but the elements found are handed to some statements in the browser, as <code>found</code>,
+     * and whatever those statements return comes back instead of the elements.
+     * @param projection statements ending with a return, like {@link #COUNT}
+     */
+    private static Object executeProjected(JavascriptExecutor javascriptExecutor, String kind, String description, String projection,
+                                           String functionName, Object... args) {
+        boolean installed = installScriptsInPage;
+        String key = functionName + (installed ? " installed\n" : "\n") + projection;
+        String call = projectedCalls.get(key);
+        if (call == null) {
+            if (installed) {
+                call = "if (!" + INSTALLED_NAMESPACE + ") { return '" + NOT_INSTALLED + "'; }\n" +
+                        "var found = " + INSTALLED_NAMESPACE + "." + functionName + ".apply(this, arguments);\n" + projection;
+            } else {
+                call = "var found = (function(" + functionParameters.get(functionName) + ") {" + functions.get(functionName) + "})" +
+                        ".apply(this, arguments);\n" + projection;
             }
-            functions.put(functionName, functionBody);
+            projectedCalls.put(key, call);
+        }
+        if (!installed) {
+            return Instrumentation.executeScript(javascriptExecutor, kind, description, call, args);
         }
+        return executeInstalled(javascriptExecutor, kind, description, call, args);
     }
 
-    private static void storeJavaScriptFunction(String body) {
-        Pattern regFn = Pattern.compile("^function ([a-zA-Z0-9]+)\\(", Pattern.MULTILINE);
-        Matcher m = regFn.matcher(body);
-        String fnName;
-        if (m.find()) {
-            fnName = m.group(1);
-        } else {
-            Pattern fnPro = Pattern.compile("^functions\\.([a-zA-Z0-9]+) ", Pattern.MULTILINE);
-            Matcher m2 = fnPro.matcher(body);
-            if (m2.find()) {
-                fnName = m2.group(1);
+    /**
+     * Run some statements, as for executeProjected(..), on elements that were found some other way.
+     * @param kind what the call is reported to NgWebDriverListeners as, with the description
+     * @param extraArgs passed after the elements, for the statements to use
+     */
+    static Object executeOnElements(JavascriptExecutor javascriptExecutor, String kind, String description, String projection,
+                                    List<WebElement> elements, Object... extraArgs) {
+        Object[] args = new Object[extraArgs.length + 1];
+        args[0] = elements;
+        System.arraycopy(extraArgs, 0, args, 1, extraArgs.length);
+        return Instrumentation.executeScript(javascriptExecutor, kind, description, "var found = arguments[0];\n" + projection, args);
+    }
+
+    private static String eachFound(String expression) {
+        return "var rv = [];\n" +
+                "for (var i = 0; found && i < found.length; i++) {\n" +
+                "  rv.push(" + expression + ");\n" +
+                "}\n" +
+                "return rv;";
+    }
+
+    private static Object executeInstalled(JavascriptExecutor javascriptExecutor, String kind, String description, String call, Object... args) {
+        Object rv = Instrumentation.executeScript(javascriptExecutor, kind, description, call, args);
+        if (NOT_INSTALLED.equals(rv)) {
+            rv = Instrumentation.executeScript(javascriptExecutor, kind, description, installScript + call, args);
+        }
+        return rv;
+    }
+
+    /**
+     * Find the elements for many locators in one round trip to the browser. ByAngular locators are
+     * resolved together in a single script, any other locators are resolved one by one as normal.
+     * @param context the driver, or an element to search within
+     * @param locators the locators, keyed by a name of your choosing
+     * @return the elements found for each key
+     */
+    public static FoundElements findAll(SearchContext context, Map<String, ? extends By> locators) {
+        JavascriptExecutor javascriptExecutor = getJavascriptExecutor(context);
+        SearchContext using = context instanceof WebDriver ? null : context;
+        Map<String, List<WebElement>> found = new LinkedHashMap<String, List<WebElement>>();
+        List<String> batched = new ArrayList<String>();
+        List<List<Object>> calls = new ArrayList<List<Object>>();
+        Set<String> functionNames = new TreeSet<String>();
+        for (Map.Entry<String, ? extends By> entry : locators.entrySet()) {
+            if (entry.getValue() instanceof BaseBy) {
+                BaseBy by = (BaseBy) entry.getValue();
+                batched.add(entry.getKey());
+                calls.add(Arrays.asList(by.functionName, Arrays.asList(by.functionArguments(using))));
+                functionNames.add(by.functionName);
+                found.put(entry.getKey(), null);
+            } else {
+                found.put(entry.getKey(), entry.getValue().findElements(context));
+            }
+        }
+        if (!calls.isEmpty()) {
+            List<List<WebElement>> results;
+            if (installScriptsInPage) {
+                results = (List<List<WebElement>>) executeInstalled(javascriptExecutor, "findAll", batched.toString(), INSTALLED_BATCH_CALL, calls);
             } else {
-                return;
+                results = (List<List<WebElement>>) Instrumentation.executeScript(javascriptExecutor, "findAll", batched.toString(),
+                        inlineBatchCall(functionNames), calls);
+            }
+            for (int i = 0; i < batched.size(); i++) {
+                found.put(batched.get(i), results.get(i));
             }
         }
-        functions.put(fnName, body.substring(body.indexOf("{")+1));
+        return new FoundElements(locators, found);
+    }
+
+    private static String inlineBatchCall(Set<String> functionNames) {
+        String key = functionNames.toString();
+        String call = inlineBatchCalls.get(key);
+        if (call == null) {
+            call = helperDefinitions(functionNames, ownBodies, functionParameters) +
+                    "var fns = " + functionTable(functionNames) + ";\n" + BATCH_CALL;
+            inlineBatchCalls.put(key, call);
+        }
+        return call;
+    }
+
+    static JavascriptExecutor getJavascriptExecutor(SearchContext context) {
+        JavascriptExecutor jse;
+        // a RemoteWebElement, or an element of a decorated driver like AutoSyncingWebDriver
+        if (context instanceof WebElement && context instanceof WrapsDriver) {
+            jse = (JavascriptExecutor) ((WrapsDriver) context).getWrappedDriver();
+        } else {
+            jse = (JavascriptExecutor) context;
+        }
+        return jse;
     }
 
     private ByAngular() {
@@ -142,19 +516,27 @@ public class ByAngular {
     protected abstract static class BaseBy extends By {
 
         protected final String rootSelector;
+        private final String functionName;
+        private final String cssSelector;
+
+        protected BaseBy(String rootSelector, String functionName) {
+            this(rootSelector, functionName, null);
+        }
 
-        protected BaseBy(String rootSelector) {
+        /**
+         * @param cssSelector a selector that finds the same elements as the function, or null if none can
+         */
+        protected BaseBy(String rootSelector, String functionName, String cssSelector) {
             this.rootSelector = rootSelector;
+            this.functionName = functionName;
+            this.cssSelector = cssSelector;
         }
 
-        private final JavascriptExecutor getJavascriptExecutor(SearchContext context) {
-            JavascriptExecutor jse;
-            if (context instanceof RemoteWebElement) {
-                jse = (JavascriptExecutor) ((RemoteWebElement) context).getWrappedDriver();
-            } else {
-                jse = (JavascriptExecutor) context;
-            }
-            return jse;
+        /**
+         * Whether to find elements with the CSS selector, which needs a driver or an element to search with
+         */
+        private boolean findsNatively(SearchContext context) {
+            return cssSelector != null && nativeSelectors && (context instanceof WebDriver || context instanceof WebElement);
         }
 
         protected final Object errorIfNull(Object o) {
@@ -166,22 +548,105 @@ public class ByAngular {
 
         @Override
         public WebElement findElement(SearchContext context) {
+            if (findsNatively(context)) {
+                try {
+                    return context.findElement(By.cssSelector(cssSelector));
+                } catch (NoSuchElementException e) {
+                    throw new NoSuchElementException(this + " didn't have any matching elements at this place in the DOM", e);
+                }
+            }
+            JavascriptExecutor javascriptExecutor = getJavascriptExecutor(context);
+            if (context instanceof WebDriver) {
+                context = null;
+            }
+            return ((List<WebElement>) errorIfNull(getObject(context, javascriptExecutor, 1))).get(0);
+        }
+
+        /**
+         * @param limit the most elements the page should collect before returning, or 0 for all of them
+         */
+        protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor, int limit) {
+            return find(javascriptExecutor, getClass().getSimpleName(), toString(), functionName, limitedArguments(context, limit));
+        }
+
+        private Object[] limitedArguments(SearchContext context, int limit, Object... extraArgs) {
+            Object[] args = functionArguments(context);
+            Object[] limited = Arrays.copyOf(args, args.length + 1 + extraArgs.length);
+            limited[args.length] = limit;
+            System.arraycopy(extraArgs, 0, limited, args.length + 1, extraArgs.length);
+            return limited;
+        }
+
+        /**
+         * How many elements this locator matches. Only the number comes back from the browser, and there is
+         * no NoSuchElementException when there are none.
+         * @param context the driver, or an element to search within
+         */
+        public int count(SearchContext context) {
+            return ((Number) project(context, COUNT, 0)).intValue();
+        }
+
+        /**
+         * Whether this locator matches anything. The search in the browser stops at the first match.
+         * @param context the driver, or an element to search within
+         */
+        public boolean exists(SearchContext context) {
+            return ((Number) project(context, COUNT, 1)).intValue() > 0;
+        }
+
+        /**
+         * The textContent of each element this locator matches, read in the same script that finds them.
+         * Note that textContent includes the text of hidden elements, unlike WebElement.getText().
+         * @param context the driver, or an element to search within
+         */
+        public List<String> texts(SearchContext context) {
+            return (List<String>) project(context, TEXTS, 0);
+        }
+
+        /**
+         * The value property of each element this locator matches (null for elements without one),
+         * read in the same script that finds them.
+         * @param context the driver, or an element to search within
+         */
+        public List<String> values(SearchContext context) {
+            return (List<String>) project(context, VALUES, 0);
+        }
+
+        /**
+         * An attribute of each element this locator matches (null where it is absent), read in the same
+         * script that finds them. Unlike WebElement.getAttribute(..), properties are not consulted.
+         * @param context the driver, or an element to search within
+         * @param name the name of the attribute, like "class"
+         */
+        public List<String> attributes(SearchContext context, String name) {
+            return (List<String>) project(context, ATTRIBUTES, 0, name);
+        }
+
+        private Object project(SearchContext context, String projection, int limit, Object... extraArgs) {
             JavascriptExecutor javascriptExecutor = getJavascriptExecutor(context);
             if (context instanceof WebDriver) {
                 context = null;
             }
-            return ((List<WebElement>) errorIfNull(getObject(context, javascriptExecutor))).get(0);
+            return executeProjected(javascriptExecutor, getClass().getSimpleName(), toString(), projection, functionName,
+                    limitedArguments(context, limit, extraArgs));
         }
 
-        protected abstract Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor);
+        /**
+         * @param context the element to search within, or null for the whole document
+         * @return the arguments for this locator's clientsidescripts.js function, in the order of its parameters
+         */
+        protected abstract Object[] functionArguments(SearchContext context);
 
         @Override
         public List<WebElement> findElements(SearchContext context) {
+            if (findsNatively(context)) {
+                return (List<WebElement>) errorIfNull(context.findElements(By.cssSelector(cssSelector)));
+            }
             JavascriptExecutor javascriptExecutor = getJavascriptExecutor(context);
             if (context instanceof WebDriver) {
                 context = null;
             }
-            return (List<WebElement>) errorIfNull(getObject(context, javascriptExecutor));
+            return (List<WebElement>) errorIfNull(getObject(context, javascriptExecutor, 0));
         }
     }
 
@@ -1,7 +1,6 @@
 package com.paulhammant.ngwebdriver;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.support.AbstractFindByBuilder;
 import org.openqa.selenium.support.PageFactoryFinder;
@@ -33,21 +32,14 @@ public class ByAngularBinding extends ByAngular.BaseBy {
     }
 
     public ByAngularBinding(String rootSelector, String binding) {
-        super(rootSelector);
+        super(rootSelector, "findBindings");
         this.binding = binding;
     }
 
     private String binding;
 
-    protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor) {
-        return javascriptExecutor.executeScript(
-                "var using = arguments[0] || document;\n" +
-                        "var rootSelector = '" + rootSelector + "';\n" +
-                        "var exactMatch = false;\n" +
-                        "var binding = '" + binding + "';\n" +
-                        "\n" +
-                        ByAngular.functions.get("findBindings")
-                , context);
+    protected Object[] functionArguments(SearchContext context) {
+        return new Object[] {binding, false, context, rootSelector};
     }
 
     @Override
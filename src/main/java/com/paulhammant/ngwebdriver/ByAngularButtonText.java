@@ -1,7 +1,6 @@
 package com.paulhammant.ngwebdriver;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.support.AbstractFindByBuilder;
 import org.openqa.selenium.support.PageFactoryFinder;
@@ -34,19 +33,14 @@ public class ByAngularButtonText extends ByAngular.BaseBy {
 
 
     public ByAngularButtonText(String rootSelector, String buttonText) {
-        super(rootSelector);
+        super(rootSelector, "findByButtonText");
         this.searchText = buttonText;
     }
 
     private String searchText;
 
-    protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor) {
-        return javascriptExecutor.executeScript(
-                "var using = arguments[0] || document;\n" +
-                        "var searchText = '" + searchText + "';\n" +
-                        "\n" +
-                        ByAngular.functions.get("findByButtonText")
-                , context);
+    protected Object[] functionArguments(SearchContext context) {
+        return new Object[] {searchText, context};
     }
 
     @Override
@@ -1,7 +1,6 @@
 package com.paulhammant.ngwebdriver;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.support.AbstractFindByBuilder;
 import org.openqa.selenium.support.PageFactoryFinder;
@@ -35,21 +34,15 @@ public class ByAngularCssContainingText extends ByAngular.BaseBy {
     }
 
     public ByAngularCssContainingText(String rootSelector, String cssSelector, String searchText) {
-        super(rootSelector);
+        super(rootSelector, "findByCssContainingText");
         this.cssSelector = cssSelector;
         this.searchText = searchText;
     }
 
     private String cssSelector,searchText;
 
-    protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor) {
-        return javascriptExecutor.executeScript(
-                        "var cssSelector = '" + cssSelector + "';\n" +
-                        "var searchText = '" + searchText + "';\n" +
-                        "var using = arguments[0] || document;\n" +
-                        "\n" +
-                        ByAngular.functions.get("findByCssContainingText")
-                , context);
+    protected Object[] functionArguments(SearchContext context) {
+        return new Object[] {cssSelector, searchText, context};
     }
 
     @Override
@@ -1,7 +1,6 @@
 package com.paulhammant.ngwebdriver;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.support.AbstractFindByBuilder;
 import org.openqa.selenium.support.PageFactoryFinder;
@@ -34,21 +33,14 @@ public class ByAngularExactBinding extends ByAngular.BaseBy {
 
 
     public ByAngularExactBinding(String rootSelector, String exactBinding) {
-        super(rootSelector);
+        super(rootSelector, "findBindings");
         this.binding = exactBinding;
     }
 
     private String binding;
 
-    protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor) {
-        return javascriptExecutor.executeScript(
-                "var using = arguments[0] || document;\n" +
-                        "var rootSelector = '" + rootSelector + "';\n" +
-                        "var exactMatch = true;\n" +
-                        "var binding = '" + binding + "';\n" +
-                        "\n" +
-                        ByAngular.functions.get("findBindings")
-                , context);
+    protected Object[] functionArguments(SearchContext context) {
+        return new Object[] {binding, true, context, rootSelector};
     }
 
     @Override
@@ -1,7 +1,6 @@
 package com.paulhammant.ngwebdriver;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.support.AbstractFindByBuilder;
 import org.openqa.selenium.support.PageFactoryFinder;
@@ -33,20 +32,14 @@ public class ByAngularModel extends ByAngular.BaseBy {
     }
 
     public ByAngularModel(String rootSelector, String model) {
-        super(rootSelector);
+        super(rootSelector, "findByModel", ByAngular.prefixedSelector("model", model, ""));
         this.model = model;
     }
 
     private String model;
 
-    protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor) {
-        return javascriptExecutor.executeScript(
-                "var using = arguments[0] || document;\n" +
-                        "var rootSelector = '" + rootSelector + "';\n" +
-                        "var model = '" + model + "';\n" +
-                        "\n" +
-                        ByAngular.functions.get("findByModel")
-                , context);
+    protected Object[] functionArguments(SearchContext context) {
+        return new Object[] {model, context, rootSelector};
     }
 
     @Override
@@ -1,7 +1,6 @@
 package com.paulhammant.ngwebdriver;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.support.AbstractFindByBuilder;
 import org.openqa.selenium.support.PageFactoryFinder;
@@ -33,19 +32,14 @@ public class ByAngularOptions extends ByAngular.BaseBy {
     }
 
     public ByAngularOptions(String rootSelector, String options) {
-        super(rootSelector);
+        super(rootSelector, "findByOptions", ByAngular.prefixedSelector("options", options, " option"));
         this.options = options;
     }
 
     private String options;
 
-    protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor) {
-        return javascriptExecutor.executeScript(
-                "var using = arguments[0] || document;\n" +
-                        "var optionsDescriptor = '" + options + "';\n" +
-                        "\n" +
-                        ByAngular.functions.get("findByOptions")
-                , context);
+    protected Object[] functionArguments(SearchContext context) {
+        return new Object[] {options, context};
     }
 
     @Override
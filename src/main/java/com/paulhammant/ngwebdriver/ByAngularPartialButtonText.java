@@ -1,7 +1,6 @@
 package com.paulhammant.ngwebdriver;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.support.AbstractFindByBuilder;
 import org.openqa.selenium.support.PageFactoryFinder;
@@ -34,19 +33,14 @@ public class ByAngularPartialButtonText extends ByAngular.BaseBy {
     }
 
     public ByAngularPartialButtonText(String rootSelector, String partialButtonText) {
-        super(rootSelector);
+        super(rootSelector, "findByPartialButtonText");
         this.searchText = partialButtonText;
     }
 
     private String searchText;
 
-    protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor) {
-        return javascriptExecutor.executeScript(
-                "var using = arguments[0] || document;\n" +
-                        "var searchText = '" + searchText + "';\n" +
-                        "\n" +
-                        ByAngular.functions.get("findByPartialButtonText")
-                , context);
+    protected Object[] functionArguments(SearchContext context) {
+        return new Object[] {searchText, context};
     }
 
     @Override
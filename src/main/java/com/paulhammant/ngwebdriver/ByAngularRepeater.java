@@ -3,6 +3,9 @@ package com.paulhammant.ngwebdriver;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.AbstractFindByBuilder;
 import org.openqa.selenium.support.PageFactoryFinder;
 
@@ -11,6 +14,17 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.paulhammant.ngwebdriver.NgWebDriver.DEFAULT_ROOT_SELECTOR;
 
@@ -35,7 +49,7 @@ public class ByAngularRepeater extends ByAngular.BaseBy {
 
 
     public ByAngularRepeater(String rootSelector, String repeater, boolean exact) {
-        super(rootSelector);
+        super(rootSelector, "findAllRepeaterRows");
         this.repeater = repeater;
         this.exact = exact;
     }
@@ -51,15 +65,150 @@ public class ByAngularRepeater extends ByAngular.BaseBy {
         return new ByAngularRepeaterColumn(rootSelector, repeater, exact, column);
     }
 
-    protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor) {
-        return javascriptExecutor.executeScript(
-                    "var using = arguments[0] || document;\n" +
-                            "var rootSelector = '" + rootSelector + "';\n" +
-                            "var repeater = '" + repeater.replace("'", "\\'") + "';\n" +
-                            "var exact = " + exact + ";\n" +
-                            "\n" +
-                            ByAngular.functions.get("findAllRepeaterRows")
-                    , context);
+    /**
+     * A handle on a row that survives the rows being sorted, filtered or rendered again, unlike the elements
+     * of row(row): it holds the row's <code>track by</code> value (or the $id of its scope), and finds the row
+     * again by that when its elements go stale.
+     * @param context the driver, or an element to search within
+     * @param row the index of the row, counting the rows of ng-repeat-start segments too, in document order
+     * @throws org.openqa.selenium.NoSuchElementException if there is no such row
+     */
+    public RepeaterRowHandle rowHandle(SearchContext context, int row) {
+        JavascriptExecutor javascriptExecutor = ByAngular.getJavascriptExecutor(context);
+        SearchContext using = context instanceof WebDriver ? null : context;
+        Map<String, Object> found = identifyRow(javascriptExecutor, using, row);
+        if (found == null) {
+            throw new org.openqa.selenium.NoSuchElementException(this + " didn't have a row " + row);
+        }
+        return new RepeaterRowHandle(this, javascriptExecutor, using, row, (String) found.get("identity"),
+                (List<WebElement>) found.get("row"));
+    }
+
+    Map<String, Object> identifyRow(JavascriptExecutor javascriptExecutor, SearchContext using, int row) {
+        return (Map<String, Object>) ByAngular.execute(javascriptExecutor, "identifyRepeaterRow", repeater, exact, row, using);
+    }
+
+    String getRepeater() {
+        return repeater;
+    }
+
+    boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Read every row of the repeater in one go, as the text of the first binding in the row that matches each column.
+     * Rows of ng-repeat-start segments are included.
+     * @param context the driver, or an element to search within
+     * @param columns the column bindings, like "foo.name"
+     * @return a list per row, of the texts of the columns in the order given (null where a row has no such binding)
+     */
+    public List<List<String>> snapshotTexts(SearchContext context, String... columns) {
+        return (List<List<String>>) snapshot(context, columns, false);
+    }
+
+    /**
+     * Read every row of the repeater in one go, as the values of expressions evaluated in the scope of each row.
+     * Rows of ng-repeat-start segments are included.
+     * @param context the driver, or an element to search within
+     * @param expressions the expressions, like "foo.name" or "foo.price * foo.quantity"
+     * @return a list per row, of the values of the expressions in the order given
+     */
+    public List<List<Object>> snapshotValues(SearchContext context, String... expressions) {
+        return (List<List<Object>>) snapshot(context, expressions, true);
+    }
+
+    /**
+     * Iterate over the rows of the repeater, fetching them from the browser a page at a time, so that only
+     * the current page is held in Java. Elements come in the same order as findElements(..). A row of an
+     * ng-repeat-start segment is all the elements of the segment, and a page always has whole rows, so it can have
+     * more elements than pageSize. Each page starts after the last row of the page before, and the rows are
+     * counted only when the first page is fetched, so the iteration goes through each row in the browser twice
+     * at most. If rows are removed or added during the iteration
+     * (where that shows in the pages still to come), a ConcurrentModificationException is thrown.
+     * @param context the driver, or an element to search within
+     * @param pageSize how many rows to fetch at a time
+     */
+    public Iterator<WebElement> iterator(SearchContext context, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be at least 1, not " + pageSize);
+        }
+        return new PagingIterator(context, pageSize);
+    }
+
+    /**
+     * As iterator(context, pageSize), but as a Stream.
+     */
+    public Stream<WebElement> stream(SearchContext context, int pageSize) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(context, pageSize),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private class PagingIterator implements Iterator<WebElement> {
+
+        private final JavascriptExecutor javascriptExecutor;
+        private final SearchContext using;
+        private final int pageSize;
+        private List<WebElement> page = Collections.emptyList();
+        // the first element of the last row fetched, which the next page starts after
+        private WebElement last;
+        private long fetched;
+        private int indexInPage;
+        private long total = -1;
+
+        private PagingIterator(SearchContext context, int pageSize) {
+            this.javascriptExecutor = ByAngular.getJavascriptExecutor(context);
+            this.using = context instanceof WebDriver ? null : context;
+            this.pageSize = pageSize;
+        }
+
+        public boolean hasNext() {
+            if (indexInPage == page.size() && (total < 0 || fetched < total)) {
+                fetch();
+            }
+            return indexInPage < page.size();
+        }
+
+        public WebElement next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.get(indexInPage++);
+        }
+
+        private void fetch() {
+            boolean first = total < 0;
+            Map<String, Object> rv;
+            try {
+                rv = (Map<String, Object>) ByAngular.execute(javascriptExecutor, "findRepeaterRowsPage",
+                        repeater, exact, last, pageSize, first, using);
+            } catch (StaleElementReferenceException e) {
+                throw new ConcurrentModificationException(ByAngularRepeater.this + " lost the last row fetched while being iterated", e);
+            }
+            long size = ((Number) rv.get("size")).longValue();
+            if (first) {
+                total = ((Number) rv.get("total")).longValue();
+            } else if (size != Math.min(pageSize, total - fetched)) {
+                throw new ConcurrentModificationException(ByAngularRepeater.this + " no longer has " + total
+                        + " rows while being iterated");
+            }
+            fetched += size;
+            last = (WebElement) rv.get("last");
+            page = (List<WebElement>) rv.get("rows");
+            indexInPage = 0;
+        }
+    }
+
+    private Object snapshot(SearchContext context, String[] columns, boolean scopeValues) {
+        JavascriptExecutor javascriptExecutor = ByAngular.getJavascriptExecutor(context);
+        if (context instanceof WebDriver) {
+            context = null;
+        }
+        return ByAngular.execute(javascriptExecutor, "snapshotRepeater", repeater, exact, Arrays.asList(columns), scopeValues, context, rootSelector);
+    }
+
+    protected Object[] functionArguments(SearchContext context) {
+        return new Object[] {repeater, exact, context};
     }
 
     @Override
@@ -1,7 +1,6 @@
 package com.paulhammant.ngwebdriver;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.AbstractFindByBuilder;
@@ -43,24 +42,15 @@ public class ByAngularRepeaterCell extends ByAngular.BaseBy {
     private final String column;
 
     public ByAngularRepeaterCell(String rootSelector, String repeater, boolean exact, int row, String column) {
-        super(rootSelector);
+        super(rootSelector, "findRepeaterElement");
         this.repeater = repeater;
         this.exact = exact;
         this.row = row;
         this.column = column;
     }
 
-    protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor) {
-        return javascriptExecutor.executeScript(
-                    "var using = arguments[0] || document;\n" +
-                            "var rootSelector = '" + rootSelector + "';\n" +
-                            "var repeater = '" + repeater.replace("'", "\\'") + "';\n" +
-                            "var index = " + row + ";\n" +
-                            "var binding = '" + column + "';\n" +
-                            "var exact = " + exact + ";\n" +
-                            "\n" +
-                            ByAngular.functions.get("findRepeaterElement")
-                    , context);
+    protected Object[] functionArguments(SearchContext context) {
+        return new Object[] {repeater, exact, row, column, context, rootSelector};
     }
 
     // meaningless
@@ -1,7 +1,6 @@
 package com.paulhammant.ngwebdriver;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.support.AbstractFindByBuilder;
 import org.openqa.selenium.support.PageFactoryFinder;
@@ -39,7 +38,7 @@ public class ByAngularRepeaterColumn extends ByAngular.BaseBy {
     private final String column;
 
     public ByAngularRepeaterColumn(String rootSelector, String repeater, boolean exact, String column) {
-        super(rootSelector);
+        super(rootSelector, "findRepeaterColumn");
         this.repeater = repeater;
         this.exact = exact;
         this.column = column;
@@ -49,16 +48,8 @@ public class ByAngularRepeaterColumn extends ByAngular.BaseBy {
         return new ByAngularRepeaterCell(rootSelector, repeater, exact, row, column);
     }
 
-    protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor) {
-        return javascriptExecutor.executeScript(
-                    "var using = arguments[0] || document;\n" +
-                            "var rootSelector = '" + rootSelector + "';\n" +
-                            "var repeater = '" + repeater.replace("'", "\\'") + "';\n" +
-                            "var binding = '" + column + "';\n" +
-                            "var exact = " + exact + ";\n" +
-                            "\n" +
-                            ByAngular.functions.get("findRepeaterColumn")
-                    , context);
+    protected Object[] functionArguments(SearchContext context) {
+        return new Object[] {repeater, exact, column, context, rootSelector};
     }
 
     @Override
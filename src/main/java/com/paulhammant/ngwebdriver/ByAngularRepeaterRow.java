@@ -1,7 +1,6 @@
 package com.paulhammant.ngwebdriver;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.AbstractFindByBuilder;
@@ -41,7 +40,7 @@ public class ByAngularRepeaterRow extends ByAngular.BaseBy {
     private final int row;
 
     public ByAngularRepeaterRow(String rootSelector, String repeater, boolean exact, int row) {
-        super(rootSelector);
+        super(rootSelector, "findRepeaterRows");
         this.repeater = repeater;
         this.exact = exact;
         this.row = row;
@@ -51,16 +50,8 @@ public class ByAngularRepeaterRow extends ByAngular.BaseBy {
         return new ByAngularRepeaterCell(rootSelector, repeater, exact, row, column);
     }
 
-    protected Object getObject(SearchContext context, JavascriptExecutor javascriptExecutor) {
-        return javascriptExecutor.executeScript(
-                    "var using = arguments[0] || document;\n" +
-                            "var rootSelector = '" + rootSelector + "';\n" +
-                            "var repeater = '" + repeater.replace("'", "\\'") + "';\n" +
-                            "var index = " + row + ";\n" +
-                            "var exact = " + exact+ ";\n" +
-                            "\n" +
-                            ByAngular.functions.get("findRepeaterRows")
-                    , context);
+    protected Object[] functionArguments(SearchContext context) {
+        return new Object[] {repeater, exact, row, context};
     }
 
     // meaningless
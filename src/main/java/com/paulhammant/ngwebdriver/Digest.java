@@ -0,0 +1,22 @@
+package com.paulhammant.ngwebdriver;
+
+/**
+ * How Angular is made to notice a change to a $scope by NgWebDriver's mutate methods.
+ */
+public enum Digest {
+
+    /**
+     * $apply() on the $rootScope, which dirty-checks every watcher in the app.
+     */
+    ROOT,
+
+    /**
+     * $digest() on the element's own scope, which dirty-checks that scope and its children only.
+     */
+    SCOPE,
+
+    /**
+     * $digest() on the element's own scope, falling back to $apply() on the $rootScope if that fails.
+     */
+    SCOPE_OR_ROOT
+}
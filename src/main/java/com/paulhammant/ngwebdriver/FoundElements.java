@@ -0,0 +1,54 @@
+package com.paulhammant.ngwebdriver;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The elements found for a map of locators by {@link ByAngular#findAll}. Each key fails in
+ * the same way as its locator would have done on its own, if nothing was found for it.
+ */
+public class FoundElements {
+
+    private final Map<String, ? extends By> locators;
+    private final Map<String, List<WebElement>> found;
+
+    FoundElements(Map<String, ? extends By> locators, Map<String, List<WebElement>> found) {
+        this.locators = locators;
+        this.found = found;
+    }
+
+    public Set<String> keySet() {
+        return found.keySet();
+    }
+
+    public WebElement findElement(String key) {
+        List<WebElement> elements = findElements(key);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException(locators.get(key) + " didn't have any matching elements at this place in the DOM");
+        }
+        return elements.get(0);
+    }
+
+    public List<WebElement> findElements(String key) {
+        By by = locators.get(key);
+        if (by == null) {
+            throw new IllegalArgumentException("No locator was given for '" + key + "'");
+        }
+        if (by instanceof ByAngular.BaseBy) {
+            return (List<WebElement>) ((ByAngular.BaseBy) by).errorIfNull(found.get(key));
+        }
+        return found.get(key);
+    }
+
+    /**
+     * @return the elements found for the key, which may be none at all
+     */
+    public List<WebElement> get(String key) {
+        return found.get(key);
+    }
+}
@@ -0,0 +1,115 @@
+package com.paulhammant.ngwebdriver;
+
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Every script ngWebDriver sends goes through here, so that NgWebDriverListeners can be told about it.
+ * With no listeners registered, scripts are sent as they are.
+ */
+final class Instrumentation {
+
+    private static final List<NgWebDriverListener> listeners = new CopyOnWriteArrayList<NgWebDriverListener>();
+    private static final Map<String, Timed> timedScripts = new ConcurrentHashMap<String, Timed>();
+    private static final Map<String, Timed> timedAsyncScripts = new ConcurrentHashMap<String, Timed>();
+    // scripts made up for one call, like retrieve(..)'s, are not worth keeping
+    private static final int MOST_TIMED_SCRIPTS = 256;
+
+    private static final String NOW = "var ngwdNow = function() {\n" +
+            "  return window.performance ? window.performance.now() : new Date().getTime();\n" +
+            "};\n";
+
+    private Instrumentation() {
+    }
+
+    static void addListener(NgWebDriverListener listener) {
+        listeners.add(listener);
+    }
+
+    static void removeListener(NgWebDriverListener listener) {
+        listeners.remove(listener);
+    }
+
+    static Object executeScript(JavascriptExecutor javascriptExecutor, String kind, String description, String script, Object... args) {
+        if (listeners.isEmpty()) {
+            return javascriptExecutor.executeScript(script, args);
+        }
+        Timed timed = timedScripts.get(script);
+        if (timed == null) {
+            timed = new Timed(script, NOW + "var ngwdStart = ngwdNow();\n" +
+                    "var ngwdResult = (function() {\n" + script + "\n}).apply(this, arguments);\n" +
+                    "if (ngwdResult && typeof ngwdResult.item == 'function') {\n" +
+                    "  ngwdResult = Array.prototype.slice.call(ngwdResult);\n" +
+                    "}\n" +
+                    "return {ngwdResult: ngwdResult, ngwdMillis: ngwdNow() - ngwdStart};");
+            if (timedScripts.size() < MOST_TIMED_SCRIPTS) {
+                timedScripts.put(script, timed);
+            }
+        }
+        long start = System.nanoTime();
+        try {
+            return report(kind, description, timed, start, javascriptExecutor.executeScript(timed.script, args));
+        } catch (RuntimeException e) {
+            fire(new ScriptEvent(kind, description, timed.bytes, -1, Double.NaN, System.nanoTime() - start, e));
+            throw e;
+        }
+    }
+
+    static Object executeAsyncScript(JavascriptExecutor javascriptExecutor, String kind, String description, String script, Object... args) {
+        if (listeners.isEmpty()) {
+            return javascriptExecutor.executeAsyncScript(script, args);
+        }
+        Timed timed = timedAsyncScripts.get(script);
+        if (timed == null) {
+            timed = new Timed(script, NOW + "var ngwdStart = ngwdNow();\n" +
+                    "var ngwdArgs = Array.prototype.slice.call(arguments);\n" +
+                    "var ngwdDone = ngwdArgs[ngwdArgs.length - 1];\n" +
+                    "ngwdArgs[ngwdArgs.length - 1] = function(ngwdResult) {\n" +
+                    "  ngwdDone({ngwdResult: ngwdResult, ngwdMillis: ngwdNow() - ngwdStart});\n" +
+                    "};\n" +
+                    "(function() {\n" + script + "\n}).apply(this, ngwdArgs);");
+            if (timedAsyncScripts.size() < MOST_TIMED_SCRIPTS) {
+                timedAsyncScripts.put(script, timed);
+            }
+        }
+        long start = System.nanoTime();
+        try {
+            return report(kind, description, timed, start, javascriptExecutor.executeAsyncScript(timed.script, args));
+        } catch (RuntimeException e) {
+            fire(new ScriptEvent(kind, description, timed.bytes, -1, Double.NaN, System.nanoTime() - start, e));
+            throw e;
+        }
+    }
+
+    private static Object report(String kind, String description, Timed timed, long start, Object rv) {
+        long latency = System.nanoTime() - start;
+        double browserMillis = Double.NaN;
+        if (rv instanceof Map && ((Map) rv).containsKey("ngwdMillis")) {
+            browserMillis = ((Number) ((Map) rv).get("ngwdMillis")).doubleValue();
+            rv = ((Map) rv).get("ngwdResult");
+        }
+        fire(new ScriptEvent(kind, description, timed.bytes, rv instanceof List ? ((List) rv).size() : -1, browserMillis, latency, null));
+        return rv;
+    }
+
+    private static void fire(ScriptEvent event) {
+        for (NgWebDriverListener listener : listeners) {
+            listener.afterScript(event);
+        }
+    }
+
+    private static class Timed {
+        private final String script;
+        private final int bytes;
+
+        private Timed(String original, String script) {
+            this.script = script;
+            this.bytes = original.getBytes(StandardCharsets.UTF_8).length;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.paulhammant.ngwebdriver;
+
+/**
+ * Takes the comments and indentation out of the functions of clientsidescripts.js, as they are sent to the
+ * browser on every call. Line breaks are kept, as the scripts rely on them for semicolon insertion in places,
+ * and strings and regular expression literals are left as they are.
+ */
+final class JsMinifier {
+
+    private static final String BEFORE_REGEX = "(,=:[!&|?{};+-*%<>~^\n";
+
+    private JsMinifier() {
+    }
+
+    static String minify(String js) {
+        StringBuilder out = new StringBuilder(js.length());
+        int length = js.length();
+        // the last character that wasn't whitespace, to tell a regular expression from a division
+        char last = '\n';
+        int i = 0;
+        while (i < length) {
+            char c = js.charAt(i);
+            char next = i + 1 < length ? js.charAt(i + 1) : 0;
+            if (c == '\'' || c == '"') {
+                int end = endOfString(js, i);
+                out.append(js, i, end);
+                last = c;
+                i = end;
+            } else if (c == '/' && next == '/') {
+                while (i < length && js.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && next == '*') {
+                int end = js.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                space(out);
+            } else if (c == '/' && regexCanStart(last, out)) {
+                int end = endOfRegex(js, i);
+                out.append(js, i, end);
+                last = '/';
+                i = end;
+            } else if (c == '\n' || c == '\r') {
+                trimTrailingSpace(out);
+                if (out.length() > 0 && out.charAt(out.length() - 1) != '\n') {
+                    out.append('\n');
+                }
+                i++;
+            } else if (c == ' ' || c == '\t') {
+                space(out);
+                i++;
+            } else {
+                out.append(c);
+                last = c;
+                i++;
+            }
+        }
+        trimTrailingSpace(out);
+        while (out.length() > 0 && out.charAt(out.length() - 1) == '\n') {
+            out.setLength(out.length() - 1);
+        }
+        return out.toString();
+    }
+
+    private static void space(StringBuilder out) {
+        if (out.length() > 0) {
+            char previous = out.charAt(out.length() - 1);
+            if (previous != ' ' && previous != '\n') {
+                out.append(' ');
+            }
+        }
+    }
+
+    private static void trimTrailingSpace(StringBuilder out) {
+        while (out.length() > 0 && out.charAt(out.length() - 1) == ' ') {
+            out.setLength(out.length() - 1);
+        }
+    }
+
+    private static boolean regexCanStart(char last, StringBuilder out) {
+        if (BEFORE_REGEX.indexOf(last) >= 0) {
+            return true;
+        }
+        return endsWithWord(out, "return") || endsWithWord(out, "typeof");
+    }
+
+    private static boolean endsWithWord(StringBuilder out, String word) {
+        int end = out.length();
+        while (end > 0 && (out.charAt(end - 1) == ' ' || out.charAt(end - 1) == '\n')) {
+            end--;
+        }
+        int start = end - word.length();
+        return start >= 0 && out.substring(start, end).equals(word)
+                && (start == 0 || !Character.isJavaIdentifierPart(out.charAt(start - 1)));
+    }
+
+    private static int endOfString(String js, int start) {
+        char quote = js.charAt(start);
+        int i = start + 1;
+        while (i < js.length()) {
+            char c = js.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote || c == '\n') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return js.length();
+    }
+
+    private static int endOfRegex(String js, int start) {
+        boolean inClass = false;
+        int i = start + 1;
+        while (i < js.length()) {
+            char c = js.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '\n') {
+                return i;
+            }
+            i++;
+            if (c == '[') {
+                inClass = true;
+            } else if (c == ']') {
+                inClass = false;
+            } else if (c == '/' && !inClass) {
+                break;
+            }
+        }
+        while (i < js.length() && Character.isLetter(js.charAt(i))) {
+            i++;
+        }
+        return Math.min(i, js.length());
+    }
+}
@@ -1,8 +1,14 @@
 package com.paulhammant.ngwebdriver;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 public class NgWebDriver {
 
   public static final String DEFAULT_ROOT_SELECTOR = "[ng-app]";
@@ -30,14 +36,119 @@ public class NgWebDriver {
     return ByAngular.withRootSelector(rootSelector);
   }
 
+  /**
+   * Find the elements for many locators in one round trip to the browser.
+   *
+   * @param locators the locators, keyed by a name of your choosing
+   */
+  public FoundElements findAll(Map<String, ? extends By> locators) {
+    return ByAngular.findAll(searchContext(), locators);
+  }
+
+  public FoundElements findAll(WebElement within, Map<String, ? extends By> locators) {
+    return ByAngular.findAll(within, locators);
+  }
+
+  /**
+   * The textContent of each element the locator finds. A ByAngular locator finds the elements and reads
+   * their text in one round trip to the browser, any other locator takes two.
+   */
+  public List<String> texts(By by) {
+    return texts(searchContext(), by);
+  }
+
+  /**
+   * As texts(by), but searching within an element, or with a driver other than the one this was made with.
+   */
+  public List<String> texts(SearchContext context, By by) {
+    if (by instanceof ByAngular.BaseBy) {
+      return ((ByAngular.BaseBy) by).texts(context);
+    }
+    return (List<String>) ByAngular.executeOnElements(ByAngular.getJavascriptExecutor(context), "texts", by.toString(), ByAngular.TEXTS,
+      by.findElements(context));
+  }
+
+  /**
+   * The value property of each element the locator finds, as for texts(by).
+   */
+  public List<String> values(By by) {
+    return values(searchContext(), by);
+  }
+
+  public List<String> values(SearchContext context, By by) {
+    if (by instanceof ByAngular.BaseBy) {
+      return ((ByAngular.BaseBy) by).values(context);
+    }
+    return (List<String>) ByAngular.executeOnElements(ByAngular.getJavascriptExecutor(context), "values", by.toString(), ByAngular.VALUES,
+      by.findElements(context));
+  }
+
+  /**
+   * An attribute of each element the locator finds, as for texts(by).
+   *
+   * @param name the name of the attribute, like "class"
+   */
+  public List<String> attributes(By by, String name) {
+    return attributes(searchContext(), by, name);
+  }
+
+  public List<String> attributes(SearchContext context, By by, String name) {
+    if (by instanceof ByAngular.BaseBy) {
+      return ((ByAngular.BaseBy) by).attributes(context, name);
+    }
+    return (List<String>) ByAngular.executeOnElements(ByAngular.getJavascriptExecutor(context), "attributes", by.toString(), ByAngular.ATTRIBUTES,
+      by.findElements(context), name);
+  }
+
+  private SearchContext searchContext() {
+    if (!(driver instanceof SearchContext)) {
+      throw new IllegalStateException("NgWebDriver was made with a JavascriptExecutor that can't find elements ("
+        + driver.getClass().getName() + "), so pass the driver or an element to search within");
+    }
+    return (SearchContext) driver;
+  }
+
   public void mutate(WebElement element, final String variable, final String value) {
-    driver.executeScript("angular.element(arguments[0]).scope()." + variable + " = " + value + ";" +
+    Instrumentation.executeScript(driver, "mutate", variable, "angular.element(arguments[0]).scope()." + variable + " = " + value + ";" +
       "var root = document.querySelector('" + rootSelector + "');" +
       "angular.element(root).injector().get('$rootScope').$apply();", element);
   }
 
+  /**
+   * As mutate(element, variable, value), but choosing how Angular is made to notice the change.
+   *
+   * @param digest ROOT for $apply() on the $rootScope (as mutate(..) does), SCOPE for a $digest() of the
+   *               element's scope and its children only, or SCOPE_OR_ROOT for the latter with a fall back
+   *               to the former
+   * @return the time the digest took, in milliseconds
+   */
+  public double mutate(WebElement element, final String variable, final String value, Digest digest) {
+    return ((Number) ByAngular.executeAfter(driver, "angular.element(arguments[0]).scope()." + variable + " = " + value + ";\n",
+      "digestScope", element, rootSelector, digest.name())).doubleValue();
+  }
+
+  /**
+   * Change many $scope variables with one round trip to the browser, and only one $apply() afterwards.
+   * Unlike mutate(..), the values are Java values (String, Number, Boolean, List, Map) rather than
+   * JavaScript source, and are passed to the browser as JSON.
+   *
+   * @param element an element within the scope
+   * @param values the values, keyed by variable, like "person.name"
+   * @return the time the digest took, in milliseconds
+   */
+  public double mutateAll(WebElement element, Map<String, ?> values) {
+    return mutateAll(element, values, Digest.ROOT);
+  }
+
+  /**
+   * As mutateAll(element, values), but choosing how Angular is made to notice the changes.
+   */
+  public double mutateAll(WebElement element, Map<String, ?> values, Digest digest) {
+    return ((Number) ByAngular.execute(driver, "mutateAll", element, values, rootSelector, digest.name())).doubleValue();
+  }
+
   public String retrieveJson(WebElement element, final String variable) {
-    return (String) check(variable, driver.executeScript(
+    return (String) check(variable, Instrumentation.executeScript(driver, "retrieveJson", variable,
       "return angular.toJson(angular.element(arguments[0]).scope()." + variable + ");", element));
   }
 
@@ -49,10 +160,23 @@ public class NgWebDriver {
   }
 
   public Object retrieve(WebElement element, final String variable) {
-    return check(variable, driver.executeScript(
+    return check(variable, Instrumentation.executeScript(driver, "retrieve", variable,
       "return angular.element(arguments[0]).scope()." + variable + ";", element));
   }
 
+  /**
+   * Retrieve many $scope variables (or Angular expressions) with one round trip to the browser.
+   * Unlike retrieve(..), a variable that is not in scope doesn't fail the whole call, it is
+   * reported as missing in the result.
+   *
+   * @param element an element within the scope
+   * @param variables like "person.name" or "items.length"
+   */
+  public ScopeValues retrieveAll(WebElement element, final String... variables) {
+    Map<String, Object> rv = (Map<String, Object>) ByAngular.execute(driver, "evaluateAll", element, Arrays.asList(variables));
+    return new ScopeValues((Map<String, Object>) rv.get("values"), (List<String>) rv.get("missing"));
+  }
+
   public String retrieveAsString(WebElement element, final String variable) {
     return retrieve(element, variable).toString();
   }
@@ -66,21 +190,35 @@ public class NgWebDriver {
   }
 
   public Object waitForAngularRequestsToFinish() {
-    return driver.executeAsyncScript("var callback = arguments[arguments.length - 1];\n" +
-      "var rootSelector = '" + rootSelector + "';\n" +
-      "\n" +
-      ByAngular.functions.get("waitForAngular"));
+    return ByAngular.executeAsync(driver, "waitForAngular", rootSelector);
+  }
+
+  /**
+   * Wait for Angular to finish async activity, as waitForAngularRequestsToFinish() does, but wait on
+   * AngularJS and every Angular testability at the same time, and give up after a timeout of its own.
+   * The driver's script timeout should be longer than that, or it will fail the wait first.
+   *
+   * @param timeoutMillis how long to wait before giving up, or 0 to leave it to the script timeout
+   * @return how long it took, what was waited on, and whether it timed out
+   */
+  public WaitResult waitForAngularRequestsToFinish(long timeoutMillis) {
+    return new WaitResult((Map<String, Object>) ByAngular.executeAsync(driver, "waitForAngularWithTiming", rootSelector, timeoutMillis));
+  }
+
+  /**
+   * @return how often locators were answered from the page's cache of results, if
+   * {@link ByAngular#setCacheResultsInPage(boolean)} is turned on
+   */
+  public ResultCacheStatistics getResultCacheStatistics() {
+    return new ResultCacheStatistics((Map<String, Object>) ByAngular.execute(driver, "getResultCacheStatistics"));
   }
 
   public String getLocationAbsUrl() {
-    return (String) driver.executeScript(
-      "var selector = '" + rootSelector + "';\n" +
-        "\n" +
-        ByAngular.functions.get("getLocationAbsUrl"));
+    return (String) ByAngular.execute(driver, "getLocationAbsUrl", rootSelector);
   }
 
   public Object evaluateScript(WebElement element, String script) {
     script = script.replace("$scope", "angular.element(arguments[0]).scope()");
-    return driver.executeScript(script, element);
+    return Instrumentation.executeScript(driver, "evaluateScript", script, script, element);
   }
 }
@@ -0,0 +1,141 @@
+package com.paulhammant.ngwebdriver;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * The operations of an {@link NgWebDriver} that return a CompletableFuture rather than blocking the calling
+ * thread. One thread can then wait on many browser sessions at once, with one NgWebDriverAsync per session.
+ * <p>
+ * A browser session can only do one thing at a time, so the operations of one NgWebDriverAsync run one after
+ * the other, in the order they were called. Those of different NgWebDriverAsyncs overlap.
+ */
+public class NgWebDriverAsync {
+
+  private static volatile Executor defaultExecutor;
+
+  private final NgWebDriver ngWebDriver;
+  private final Executor executor;
+  private CompletableFuture<?> last = CompletableFuture.completedFuture(null);
+
+  /**
+   * Run on virtual threads when the JVM has them (Java 21 and later), otherwise on a shared pool of
+   * daemon threads.
+   */
+  public NgWebDriverAsync(NgWebDriver ngWebDriver) {
+    this(ngWebDriver, defaultExecutor());
+  }
+
+  public NgWebDriverAsync(NgWebDriver ngWebDriver, Executor executor) {
+    this.ngWebDriver = ngWebDriver;
+    this.executor = executor;
+  }
+
+  public CompletableFuture<Object> waitForAngularRequestsToFinish() {
+    return submit(() -> ngWebDriver.waitForAngularRequestsToFinish());
+  }
+
+  public CompletableFuture<WaitResult> waitForAngularRequestsToFinish(long timeoutMillis) {
+    return submit(() -> ngWebDriver.waitForAngularRequestsToFinish(timeoutMillis));
+  }
+
+  public CompletableFuture<FoundElements> findAll(Map<String, ? extends By> locators) {
+    return submit(() -> ngWebDriver.findAll(locators));
+  }
+
+  public CompletableFuture<FoundElements> findAll(WebElement within, Map<String, ? extends By> locators) {
+    return submit(() -> ngWebDriver.findAll(within, locators));
+  }
+
+  public CompletableFuture<List<String>> texts(By by) {
+    return submit(() -> ngWebDriver.texts(by));
+  }
+
+  public CompletableFuture<List<String>> values(By by) {
+    return submit(() -> ngWebDriver.values(by));
+  }
+
+  public CompletableFuture<List<String>> attributes(By by, String name) {
+    return submit(() -> ngWebDriver.attributes(by, name));
+  }
+
+  public CompletableFuture<Object> retrieve(WebElement element, String variable) {
+    return submit(() -> ngWebDriver.retrieve(element, variable));
+  }
+
+  public CompletableFuture<String> retrieveJson(WebElement element, String variable) {
+    return submit(() -> ngWebDriver.retrieveJson(element, variable));
+  }
+
+  public CompletableFuture<ScopeValues> retrieveAll(WebElement element, String... variables) {
+    return submit(() -> ngWebDriver.retrieveAll(element, variables));
+  }
+
+  public CompletableFuture<Void> mutate(WebElement element, String variable, String value) {
+    return submit(() -> {
+      ngWebDriver.mutate(element, variable, value);
+      return null;
+    });
+  }
+
+  public CompletableFuture<Double> mutate(WebElement element, String variable, String value, Digest digest) {
+    return submit(() -> ngWebDriver.mutate(element, variable, value, digest));
+  }
+
+  public CompletableFuture<Double> mutateAll(WebElement element, Map<String, ?> values) {
+    return submit(() -> ngWebDriver.mutateAll(element, values));
+  }
+
+  public CompletableFuture<Double> mutateAll(WebElement element, Map<String, ?> values, Digest digest) {
+    return submit(() -> ngWebDriver.mutateAll(element, values, digest));
+  }
+
+  public CompletableFuture<String> getLocationAbsUrl() {
+    return submit(() -> ngWebDriver.getLocationAbsUrl());
+  }
+
+  /**
+   * Run an operation on the executor once this session's previous operation is done, whether or not
+   * that failed.
+   */
+  private synchronized <T> CompletableFuture<T> submit(Supplier<T> operation) {
+    CompletableFuture<T> next = last.handle((rv, failure) -> null).thenApplyAsync(ignored -> operation.get(), executor);
+    last = next;
+    return next;
+  }
+
+  private static Executor defaultExecutor() {
+    if (defaultExecutor == null) {
+      synchronized (NgWebDriverAsync.class) {
+        if (defaultExecutor == null) {
+          defaultExecutor = newDefaultExecutor();
+        }
+      }
+    }
+    return defaultExecutor;
+  }
+
+  private static ExecutorService newDefaultExecutor() {
+    try {
+      // Executors.newVirtualThreadPerTaskExecutor() is only there from Java 21
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      final ThreadFactory threads = Executors.defaultThreadFactory();
+      return Executors.newCachedThreadPool(runnable -> {
+        Thread thread = threads.newThread(runnable);
+        thread.setName("ngWebDriver-" + thread.getName());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.paulhammant.ngwebdriver;
+
+/**
+ * Told about every script ngWebDriver sends to the browser: those of the ByAngular locators and those of
+ * NgWebDriver's methods. Register one with {@link ByAngular#addListener(NgWebDriverListener)}, or use
+ * {@link ScriptStatistics} to gather them up.
+ * <p>
+ * While any listener is registered, scripts time themselves in the browser, so that
+ * {@link ScriptEvent#getBrowserMillis()} can be reported. Listeners are called on the thread that sent the
+ * script, and should be quick.
+ */
+public interface NgWebDriverListener {
+
+    void afterScript(ScriptEvent event);
+
+}
@@ -0,0 +1,101 @@
+package com.paulhammant.ngwebdriver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A row of a repeater, held by what identifies it in the page rather than by its position: the value of the
+ * repeater's <code>track by</code> expression, or else the $id of the row's scope. When the row's elements go
+ * stale, because the rows were sorted, filtered or rendered again, the row is found again by that identity
+ * with one script. Got from {@link ByAngularRepeater#rowHandle(SearchContext, int)}.
+ */
+public class RepeaterRowHandle {
+
+    private final ByAngularRepeater repeater;
+    private final JavascriptExecutor javascriptExecutor;
+    private final SearchContext using;
+    private final int index;
+    private final String identity;
+    private List<WebElement> elements;
+
+    RepeaterRowHandle(ByAngularRepeater repeater, JavascriptExecutor javascriptExecutor, SearchContext using,
+                      int index, String identity, List<WebElement> elements) {
+        this.repeater = repeater;
+        this.javascriptExecutor = javascriptExecutor;
+        this.using = using;
+        this.index = index;
+        this.identity = identity;
+        this.elements = elements;
+    }
+
+    /**
+     * @return what identifies the row, like <code>track by 42</code> or <code>$id 17</code>, or null if the page
+     * has debug info disabled, in which case the row is found again by its position
+     */
+    public String getIdentity() {
+        return identity;
+    }
+
+    /**
+     * @return the (first) element of the row, as last found, which may be stale
+     */
+    public WebElement getElement() {
+        return elements.get(0);
+    }
+
+    /**
+     * @return the elements of the row (more than one for ng-repeat-start), as last found, which may be stale
+     */
+    public List<WebElement> getElements() {
+        return elements;
+    }
+
+    /**
+     * Find the row again by its identity, wherever it is now.
+     * @return this
+     * @throws NoSuchElementException if the row is no longer in the repeater
+     */
+    public RepeaterRowHandle refresh() {
+        List<WebElement> found;
+        if (identity == null) {
+            Map<String, Object> row = repeater.identifyRow(javascriptExecutor, using, index);
+            found = row == null ? Collections.<WebElement>emptyList() : (List<WebElement>) row.get("row");
+        } else {
+            found = (List<WebElement>) ByAngular.execute(javascriptExecutor, "findRepeaterRowByIdentity",
+                    repeater.getRepeater(), repeater.isExact(), identity, using);
+        }
+        if (found.isEmpty()) {
+            throw new NoSuchElementException(this + " is no longer in the page");
+        }
+        elements = found;
+        return this;
+    }
+
+    /**
+     * Do something with the (first) element of the row. If the element has gone stale, the row is found again
+     * by its identity and the action is tried once more.
+     * @param action what to do, like <code>row -&gt; row.findElement(ByAngular.binding("cat.name")).getText()</code>
+     * @return what the action returned
+     */
+    public <T> T apply(Function<WebElement, T> action) {
+        try {
+            return action.apply(getElement());
+        } catch (StaleElementReferenceException e) {
+            refresh();
+            return action.apply(getElement());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return repeater + ".rowHandle(" + (identity == null ? String.valueOf(index) : identity) + ')';
+    }
+}
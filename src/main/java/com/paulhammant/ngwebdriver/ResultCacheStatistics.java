@@ -0,0 +1,46 @@
+package com.paulhammant.ngwebdriver;
+
+import java.util.Map;
+
+/**
+ * How often locators were answered from the page's cache of results (see
+ * {@link ByAngular#setCacheResultsInPage(boolean)}), since the page was loaded.
+ */
+public class ResultCacheStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long size;
+
+    ResultCacheStatistics(Map<String, Object> result) {
+        this.hits = ((Number) result.get("hits")).longValue();
+        this.misses = ((Number) result.get("misses")).longValue();
+        this.size = ((Number) result.get("size")).longValue();
+    }
+
+    /**
+     * @return the searches answered from the cache
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the searches made in the page, as the cache didn't have them or the page had changed
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the results in the cache now
+     */
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return hits + " hits, " + misses + " misses, " + size + " cached";
+    }
+}
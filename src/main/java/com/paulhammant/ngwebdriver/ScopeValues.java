@@ -0,0 +1,57 @@
+package com.paulhammant.ngwebdriver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The $scope variables retrieved by {@link NgWebDriver#retrieveAll}. Variables that were
+ * not in scope (undefined) are reported by {@link #getMissing()}, and fail only when asked for.
+ * A variable that is in scope with a null value is not missing, and its value is null.
+ */
+public class ScopeValues {
+
+    private final Map<String, Object> values;
+    private final List<String> missing;
+
+    ScopeValues(Map<String, Object> values, List<String> missing) {
+        this.values = values;
+        this.missing = missing;
+    }
+
+    /**
+     * @return the value of the variable, which is null if it is null in scope
+     * @throws VariableNotInScopeException if the variable was not in scope
+     */
+    public Object get(String variable) {
+        if (!values.containsKey(variable)) {
+            throw new VariableNotInScopeException("$scope variable '" + variable + "' not found in same scope as the element passed in.");
+        }
+        return values.get(variable);
+    }
+
+    public String getAsString(String variable) {
+        Object value = get(variable);
+        return value == null ? null : value.toString();
+    }
+
+    public Long getAsLong(String variable) {
+        Object value = get(variable);
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    public boolean isMissing(String variable) {
+        return missing.contains(variable);
+    }
+
+    public List<String> getMissing() {
+        return Collections.unmodifiableList(missing);
+    }
+
+    /**
+     * @return the variables that were in scope, and their values (null for those null in scope)
+     */
+    public Map<String, Object> asMap() {
+        return Collections.unmodifiableMap(values);
+    }
+}
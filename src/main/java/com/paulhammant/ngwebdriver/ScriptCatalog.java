@@ -0,0 +1,172 @@
+package com.paulhammant.ngwebdriver;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * The functions of clientsidescripts.js, by name. The build parses them into an index next to the script
+ * (running {@link #main(String[])} in the process-classes phase), so that a malformed script fails the build,
+ * and so that ByAngular only has to load the index. The index records the length and CRC-32 of the script it
+ * was built from, and is ignored if the script on the classpath is not that one (edited since the last build).
+ * Without an index that matches (or when built other than by Maven) the script is parsed at runtime instead.
+ * Public only so that the build can run it.
+ */
+public final class ScriptCatalog {
+
+    static final String INDEX = "/js/clientsidescripts.idx";
+
+    private static final int MAGIC = 0x6e677764; // "ngwd"
+    private static final int VERSION = 2;
+
+    private static final Pattern FUNCTION_START = Pattern.compile("^function.* \\{$", Pattern.MULTILINE);
+    private static final Pattern FUNCTION_END = Pattern.compile("^\\}", Pattern.MULTILINE);
+    private static final Pattern FUNCTION = Pattern.compile("^function ([a-zA-Z0-9]+)\\(([^)]*)\\)");
+    private static final Pattern FUNCTIONS_PROPERTY = Pattern.compile("^functions\\.([a-zA-Z0-9]+) = function\\(([^)]*)\\)");
+
+    private ScriptCatalog() {
+    }
+
+    /**
+     * Write the index of clientsidescripts.js
+     * @param args the script, and the index to write
+     */
+    public static void main(String[] args) throws IOException {
+        String src = new String(Files.readAllBytes(new File(args[0]).toPath()), StandardCharsets.UTF_8);
+        Map<String, String> functions = new LinkedHashMap<String, String>();
+        Map<String, String> functionParameters = new LinkedHashMap<String, String>();
+        parse(src, functions, functionParameters, true);
+        if (functions.isEmpty()) {
+            throw new IllegalArgumentException("No functions found in " + args[0]);
+        }
+        File index = new File(args[1]);
+        index.getParentFile().mkdirs();
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(index)));
+        try {
+            write(src, functions, functionParameters, out);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Parse the top level functions of clientsidescripts.js: those starting <code>function name(..) {</code> or
+     * <code>functions.name = function(..) {</code> and ending with a <code>}</code> at the start of a line.
+     * @param minify true to take out comments and indentation
+     * @throws IllegalArgumentException if a function has no end, or no name
+     */
+    static void parse(String src, Map<String, String> functions, Map<String, String> functionParameters, boolean minify) {
+        Matcher start = FUNCTION_START.matcher(src);
+        Matcher end = FUNCTION_END.matcher(src);
+        int from = 0;
+        while (start.find(from)) {
+            if (!end.find(start.start())) {
+                throw new IllegalArgumentException("clientsidescripts.js line " + lineOf(src, start.start())
+                        + ": no closing brace for " + start.group());
+            }
+            store(src.substring(start.start(), end.start()), functions, functionParameters, minify);
+            from = end.start();
+        }
+    }
+
+    private static void store(String body, Map<String, String> functions, Map<String, String> functionParameters, boolean minify) {
+        Matcher m = FUNCTION.matcher(body);
+        if (!m.find()) {
+            m = FUNCTIONS_PROPERTY.matcher(body);
+            if (!m.find()) {
+                throw new IllegalArgumentException("clientsidescripts.js: no function name in " + body.substring(0, body.indexOf('\n')));
+            }
+        }
+        String functionBody = body.substring(body.indexOf("{") + 1);
+        functions.put(m.group(1), minify ? JsMinifier.minify(functionBody) : functionBody);
+        functionParameters.put(m.group(1), m.group(2));
+    }
+
+    private static int lineOf(String src, int index) {
+        int line = 1;
+        for (int i = 0; i < index; i++) {
+            if (src.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return line;
+    }
+
+    /**
+     * @param src the script the functions were parsed from
+     */
+    static void write(String src, Map<String, String> functions, Map<String, String> functionParameters, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        byte[] script = src.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(script.length);
+        out.writeLong(crc(script));
+        out.writeInt(functions.size());
+        for (Map.Entry<String, String> function : functions.entrySet()) {
+            out.writeUTF(function.getKey());
+            out.writeUTF(functionParameters.get(function.getKey()));
+            byte[] body = function.getValue().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(body.length);
+            out.write(body);
+        }
+    }
+
+    /**
+     * @param src the script on the classpath, which the index must have been built from
+     * @return false if there's no index (or not one this version can read, or one built from another script),
+     * so clientsidescripts.js must be parsed
+     */
+    static boolean load(String src, Map<String, String> functions, Map<String, String> functionParameters) {
+        InputStream resource = ScriptCatalog.class.getResourceAsStream(INDEX);
+        if (resource == null) {
+            return false;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(resource));
+            try {
+                return read(in, src, functions, functionParameters);
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read " + INDEX, e);
+        }
+    }
+
+    static boolean read(DataInputStream in, String src, Map<String, String> functions, Map<String, String> functionParameters) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            return false;
+        }
+        byte[] script = src.getBytes(StandardCharsets.UTF_8);
+        if (in.readInt() != script.length || in.readLong() != crc(script)) {
+            return false;
+        }
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String name = in.readUTF();
+            functionParameters.put(name, in.readUTF());
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            functions.put(name, new String(body, StandardCharsets.UTF_8));
+        }
+        return true;
+    }
+
+    private static long crc(byte[] script) {
+        CRC32 crc = new CRC32();
+        crc.update(script, 0, script.length);
+        return crc.getValue();
+    }
+}
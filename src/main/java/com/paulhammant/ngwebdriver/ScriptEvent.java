@@ -0,0 +1,80 @@
+package com.paulhammant.ngwebdriver;
+
+/**
+ * One script sent to the browser, and how it went. See {@link NgWebDriverListener}.
+ */
+public class ScriptEvent {
+
+    private final String kind;
+    private final String description;
+    private final int scriptBytes;
+    private final int resultCount;
+    private final double browserMillis;
+    private final long latencyNanos;
+    private final RuntimeException failure;
+
+    ScriptEvent(String kind, String description, int scriptBytes, int resultCount, double browserMillis, long latencyNanos, RuntimeException failure) {
+        this.kind = kind;
+        this.description = description;
+        this.scriptBytes = scriptBytes;
+        this.resultCount = resultCount;
+        this.browserMillis = browserMillis;
+        this.latencyNanos = latencyNanos;
+        this.failure = failure;
+    }
+
+    /**
+     * @return the locator's class, like "ByAngularModel", or else the operation, like "waitForAngular"
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the locator's toString(), like "model(person.name)", or else what the operation was on
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return the size of the script sent, in UTF-8
+     */
+    public int getScriptBytes() {
+        return scriptBytes;
+    }
+
+    /**
+     * @return how many elements (or other items) came back, or -1 if the result wasn't a list
+     */
+    public int getResultCount() {
+        return resultCount;
+    }
+
+    /**
+     * @return how long the script took in the browser, in milliseconds, or NaN if it failed
+     */
+    public double getBrowserMillis() {
+        return browserMillis;
+    }
+
+    /**
+     * @return how long the round trip took, as seen from Java, in nanoseconds
+     */
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * @return what the script threw, or null
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + description + ": " + (latencyNanos / 1e6) + "ms (" + browserMillis + "ms in the browser), "
+                + scriptBytes + " bytes sent, " + (failure != null ? "failed: " + failure.getMessage() : resultCount + " results");
+    }
+}
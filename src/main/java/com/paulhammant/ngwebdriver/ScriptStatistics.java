@@ -0,0 +1,182 @@
+package com.paulhammant.ngwebdriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An NgWebDriverListener that keeps latency histograms for each kind of script (each locator class, and each
+ * NgWebDriver operation), to be reported at the end of a run:
+ * <pre>
+ * ScriptStatistics statistics = new ScriptStatistics();
+ * ByAngular.addListener(statistics);
+ * // ... the tests ...
+ * System.out.println(statistics.report());
+ * </pre>
+ * Recording takes no locks, so it can be shared by tests running in parallel. Percentiles are accurate to
+ * within an eighth.
+ */
+public class ScriptStatistics implements NgWebDriverListener {
+
+    private final ConcurrentHashMap<String, Stats> byKind = new ConcurrentHashMap<String, Stats>();
+
+    public void afterScript(ScriptEvent event) {
+        // get(..) first, as computeIfAbsent(..) locks even when the kind is there already
+        Stats stats = byKind.get(event.getKind());
+        if (stats == null) {
+            stats = byKind.computeIfAbsent(event.getKind(), kind -> new Stats());
+        }
+        stats.record(event);
+    }
+
+    public Set<String> getKinds() {
+        return Collections.unmodifiableSet(byKind.keySet());
+    }
+
+    public long getCount(String kind) {
+        Stats stats = byKind.get(kind);
+        return stats == null ? 0 : stats.latency.count();
+    }
+
+    /**
+     * @param percentile like 99 for the 99th percentile
+     * @return the round trip time, as seen from Java, in milliseconds
+     */
+    public double getLatencyMillis(String kind, double percentile) {
+        Stats stats = byKind.get(kind);
+        return stats == null ? Double.NaN : stats.latency.percentile(percentile) / 1e6;
+    }
+
+    /**
+     * @param percentile like 99 for the 99th percentile
+     * @return the time taken in the browser, in milliseconds
+     */
+    public double getBrowserMillis(String kind, double percentile) {
+        Stats stats = byKind.get(kind);
+        return stats == null ? Double.NaN : stats.browser.percentile(percentile) / 1e6;
+    }
+
+    public void reset() {
+        byKind.clear();
+    }
+
+    /**
+     * @return a table of every kind of script, those that took longest in total first
+     */
+    public String report() {
+        List<Map.Entry<String, Stats>> entries = new ArrayList<Map.Entry<String, Stats>>(byKind.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, Stats> entry) -> entry.getValue().latency.sum()).reversed());
+        StringBuilder sb = new StringBuilder(String.format("%-28s %8s %8s %10s %10s %10s %10s %12s %10s%n",
+                "kind", "count", "failed", "total ms", "p50 ms", "p99 ms", "max ms", "browser p50", "bytes/call"));
+        for (Map.Entry<String, Stats> entry : entries) {
+            Stats stats = entry.getValue();
+            long count = stats.latency.count();
+            sb.append(String.format("%-28s %8d %8d %10.1f %10.2f %10.2f %10.2f %12.2f %10d%n", entry.getKey(), count,
+                    stats.failures.sum(), stats.latency.sum() / 1e6, stats.latency.percentile(50) / 1e6,
+                    stats.latency.percentile(99) / 1e6, stats.latency.max() / 1e6, stats.browser.percentile(50) / 1e6,
+                    count == 0 ? 0 : stats.bytes.sum() / count));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return report();
+    }
+
+    private static class Stats {
+        private final Histogram latency = new Histogram();
+        private final Histogram browser = new Histogram();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private void record(ScriptEvent event) {
+            latency.record(event.getLatencyNanos());
+            if (!Double.isNaN(event.getBrowserMillis())) {
+                browser.record((long) (event.getBrowserMillis() * 1e6));
+            }
+            bytes.add(event.getScriptBytes());
+            if (event.getFailure() != null) {
+                failures.increment();
+            }
+        }
+    }
+
+    /**
+     * Counts of values in buckets, eight to each power of two.
+     */
+    static class Histogram {
+        private static final int SUB_BITS = 3;
+        private static final int SUBS = 1 << SUB_BITS;
+
+        private final AtomicLongArray counts = new AtomicLongArray(64 * SUBS);
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long value) {
+            value = Math.max(0, value);
+            counts.incrementAndGet(index(value));
+            sum.add(value);
+            long highest = max.get();
+            while (value > highest && !max.compareAndSet(highest, value)) {
+                highest = max.get();
+            }
+        }
+
+        long count() {
+            long count = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                count += counts.get(i);
+            }
+            return count;
+        }
+
+        long sum() {
+            return sum.sum();
+        }
+
+        long max() {
+            return max.get();
+        }
+
+        /**
+         * @return the highest value of the bucket the percentile falls in, or 0 if nothing was recorded
+         */
+        long percentile(double percentile) {
+            long rank = (long) Math.ceil(percentile / 100 * count());
+            long seen = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= rank && seen > 0) {
+                    return Math.min(highestIn(i), max());
+                }
+            }
+            return 0;
+        }
+
+        static int index(long value) {
+            if (value < SUBS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUBS - 1);
+            return (exponent - SUB_BITS + 1) * SUBS + sub;
+        }
+
+        static long highestIn(int index) {
+            if (index < SUBS) {
+                return index;
+            }
+            int exponent = index / SUBS + SUB_BITS - 1;
+            int sub = index % SUBS;
+            return ((long) (SUBS + sub + 1) << (exponent - SUB_BITS)) - 1;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.paulhammant.ngwebdriver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of {@link NgWebDriver#waitForAngularRequestsToFinish(long)}: how long the wait took, which
+ * testabilities were waited on, and whether it timed out or failed.
+ */
+public class WaitResult {
+
+    private final double millis;
+    private final List<String> awaited;
+    private final boolean timedOut;
+    private final String error;
+
+    WaitResult(Map<String, Object> result) {
+        this.millis = ((Number) result.get("millis")).doubleValue();
+        this.awaited = (List<String>) result.get("awaited");
+        this.timedOut = Boolean.TRUE.equals(result.get("timedOut"));
+        this.error = (String) result.get("error");
+    }
+
+    /**
+     * @return the time until Angular was stable (or until the wait gave up), in milliseconds
+     */
+    public double getMillis() {
+        return millis;
+    }
+
+    /**
+     * @return the testabilities waited on, like "angularjs" or "angular #0" (one per Angular root)
+     */
+    public List<String> getAwaited() {
+        return Collections.unmodifiableList(awaited);
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * @return the reason the wait could not be made, like a page without Angular, or null
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return true if every testability waited on became stable in time
+     */
+    public boolean isStable() {
+        return !timedOut && error == null;
+    }
+
+    @Override
+    public String toString() {
+        return (isStable() ? "stable" : timedOut ? "timed out" : "failed: " + error) + " after " + millis + "ms, awaiting " + awaited;
+    }
+}
@@ -43,6 +43,44 @@ function wrapWithHelpers(fun) {
       '  return (' + fun.toString() + ').apply(this, arguments);');
 }
 
+/* Parses an ngRepeat expression, like 'cat in cats | filter:q as found track by
+ * cat.id'. Every row of a repeater has the same expression, so each one is
+ * parsed once per page, and kept on the window. Only so many are kept, in case
+ * a page makes up expressions as it goes.
+ *
+ * @param {string} ngRepeat The ngRepeat to parse
+ * @return {{exact: string, item: ?string, collection: ?string,
+ *     filters: Array.<string>, alias: ?string, trackBy: ?string}} What an
+ *   exact repeater is matched against (the expression without any filters,
+ *   alias or `track by ...`), and the parts of the expression, trimmed
+ */
+function parseRepeat(ngRepeat) {
+  var cache = window.__ngwdRepeats = window.__ngwdRepeats ||
+      {size: 0, parsed: {}};
+  if (Object.prototype.hasOwnProperty.call(cache.parsed, ngRepeat)) {
+    return cache.parsed[ngRepeat];
+  }
+  if (cache.size >= 256) {
+    cache.size = 0;
+    cache.parsed = {};
+  }
+  var trackBy = ngRepeat.split(' track by ');
+  var alias = trackBy[0].split(' as ');
+  var filters = alias[0].split('|');
+  var parts = filters[0].match(/^\s*([\s\S]+?)\s+in\s+([\s\S]+?)\s*$/);
+  cache.size++;
+  return cache.parsed[ngRepeat] = {
+    exact: filters[0].split('=')[0].trim(),
+    item: parts ? parts[1] : null,
+    collection: parts ? parts[2] : null,
+    filters: filters.slice(1).map(function(filter) {
+      return filter.trim();
+    }),
+    alias: alias[1] ? alias[1].trim() : null,
+    trackBy: trackBy[1] ? trackBy[1].trim() : null
+  };
+}
+
 /* Tests if an ngRepeat matches a repeater
  *
  * @param {string} ngRepeat The ngRepeat to test
@@ -54,13 +92,86 @@ function wrapWithHelpers(fun) {
  */
 function repeaterMatch(ngRepeat, repeater, exact) {
   if (exact) {
-    return ngRepeat.split(' track by ')[0].split(' as ')[0].split('|')[0].
-        split('=')[0].trim() == repeater;
+    return parseRepeat(ngRepeat).exact == repeater;
   } else {
     return ngRepeat.indexOf(repeater) != -1;
   }
 }
 
+/**
+ * Call a function with each row of an ng-repeat, in document order. The rows
+ * of every prefix of ng-repeat (and ng-repeat-start) are found with one query.
+ *
+ * @param {string} repeater The text of the repeater, e.g. 'cat in cats'.
+ * @param {boolean} exact Whether the repeater needs to be matched exactly
+ * @param {Element} using The scope of the search.
+ * @param {function(Array.<Element>, boolean, string): boolean} fn Called with
+ *     the elements of each row (more than one for ng-repeat-start), whether it
+ *     is a row of ng-repeat-start, and its ngRepeat expression. Returning true
+ *     stops the search.
+ * @param {boolean=} multi True for only the rows of ng-repeat-start, false for
+ *     only those of ng-repeat, both if not given.
+ * @param {Element=} after Start with the rows after this element (the first
+ *     element of a row), which is found by a binary search rather than by
+ *     going through the rows before it.
+ */
+function forEachRepeaterRow(repeater, exact, using, fn, multi, after) {
+  var prefixes = ['ng-', 'ng_', 'data-ng-', 'x-ng-', 'ng\\:'];
+  var selectors = [];
+  for (var p = 0; p < prefixes.length; ++p) {
+    if (multi !== true) {
+      selectors.push('[' + prefixes[p] + 'repeat]');
+    }
+    if (multi !== false) {
+      selectors.push('[' + prefixes[p] + 'repeat-start]');
+    }
+  }
+  var repeatElems = (using || document).querySelectorAll(selectors.join(', '));
+  var start = 0;
+  if (after) {
+    var end = repeatElems.length;
+    while (start < end) {
+      var mid = (start + end) >> 1;
+      // 4 is Node.DOCUMENT_POSITION_FOLLOWING
+      if (repeatElems[mid] !== after &&
+          (after.compareDocumentPosition(repeatElems[mid]) & 4)) {
+        end = mid;
+      } else {
+        start = mid + 1;
+      }
+    }
+  }
+  for (var i = start; i < repeatElems.length; ++i) {
+    for (var p = 0; p < prefixes.length; ++p) {
+      var attr = prefixes[p].replace(/\\/g, '') + 'repeat';
+      var isStart = multi === true ||
+          (multi !== false && !repeatElems[i].hasAttribute(attr));
+      var ngRepeat = repeatElems[i].getAttribute(isStart ? attr + '-start' : attr);
+      if (ngRepeat === null) {
+        continue;
+      }
+      if (repeaterMatch(ngRepeat, repeater, exact)) {
+        var row = [repeatElems[i]];
+        if (isStart) {
+          row = [];
+          var elem = repeatElems[i];
+          while (elem && (elem.nodeType != 8 || (elem.nodeValue &&
+              !repeaterMatch(elem.nodeValue, repeater)))) {
+            if (elem.nodeType == 1) {
+              row.push(elem);
+            }
+            elem = elem.nextSibling;
+          }
+        }
+        if (fn(row, isStart, ngRepeat)) {
+          return;
+        }
+      }
+      break;
+    }
+  }
+}
+
 /* Tries to find $$testability and possibly $injector for an ng1 app
  *
  * By default, doesn't care about $injector if it finds $$testability.  However,
@@ -71,6 +182,9 @@ function repeaterMatch(ngRepeat, repeater, exact) {
  * @param {boolean=} injectorPlease Prioritize finding an injector
  * @return {$$testability?: Testability, $injector?: Injector} Returns whatever
  *   ng1 app hooks it finds
+ *
+ * The hooks found are kept on the window, keyed by selector, for as long as the
+ * element they were found on is still in the document.
  */
 function getNg1Hooks(selector, injectorPlease) {
   function tryEl(el) {
@@ -93,13 +207,23 @@ function getNg1Hooks(selector, injectorPlease) {
     for (var i = 0; i < els.length; i++) {
       var elHooks = tryEl(els[i]);
       if (elHooks) {
+        root = els[i];
         return elHooks;
       }
     }
   }
 
+  var root = null;
+  var cache = window.__ngwdNg1Hooks = window.__ngwdNg1Hooks || {};
+  var key = (injectorPlease ? 'injector ' : 'hooks ') + (selector || '');
+  var cached = cache[key];
+  if (cached && document.documentElement.contains(cached.root)) {
+    return cached.hooks;
+  }
+
+  var hooks;
   if (selector) {
-    return trySelector(selector);
+    hooks = trySelector(selector);
   } else if (window.__TESTABILITY__NG1_APP_ROOT_INJECTOR__) {
     var $injector = window.__TESTABILITY__NG1_APP_ROOT_INJECTOR__;
     var $$testability = null;
@@ -108,10 +232,47 @@ function getNg1Hooks(selector, injectorPlease) {
     } catch (e) {}
     return {$injector: $injector, $$testability: $$testability};
   } else {
-    return tryEl(document.body) ||
-        trySelector('[ng-app]') || trySelector('[ng\\:app]') ||
-        trySelector('[ng-controller]') || trySelector('[ng\\:controller]');
+    hooks = tryEl(document.body);
+    if (hooks) {
+      root = document.body;
+    } else {
+      hooks = trySelector('[ng-app]') || trySelector('[ng\\:app]') ||
+          trySelector('[ng-controller]') || trySelector('[ng\\:controller]');
+    }
+  }
+  if (hooks) {
+    cache[key] = {hooks: hooks, root: root};
   }
+  return hooks;
+}
+
+/* Digests after a change to the scope of an element
+ *
+ * @param {Element} element The element whose scope was changed.
+ * @param {string} rootSelector The selector housing an ng-app
+ * @param {string} digest 'ROOT' to $apply() on the $rootScope, 'SCOPE' to
+ *   $digest() the element's scope and its children only, or 'SCOPE_OR_ROOT' to
+ *   do the latter, falling back to the former if it fails
+ * @return {number} The time taken by the digest, in milliseconds
+ */
+function digestScope(element, rootSelector, digest) {
+  var now = function() {
+    return window.performance ? window.performance.now() : new Date().getTime();
+  };
+  var start = now();
+  if (digest == 'SCOPE' || digest == 'SCOPE_OR_ROOT') {
+    try {
+      angular.element(element).scope().$digest();
+      return now() - start;
+    } catch (err) {
+      if (digest == 'SCOPE') {
+        throw err;
+      }
+    }
+  }
+  var root = document.querySelector(rootSelector);
+  angular.element(root).injector().get('$rootScope').$apply();
+  return now() - start;
 }
 
 ///////////////////////////////////////////////////////
@@ -227,6 +388,115 @@ functions.waitForAngular = function(rootSelector, callback) {
 
 };
 
+/**
+ * Wait until Angular has finished rendering, as waitForAngular does, but
+ * wait on AngularJS and on every Angular testability at the same time, give
+ * up after a timeout, and report how long the wait took.
+ *
+ * Asynchronous.
+ *
+ * @param {string} rootSelector The selector housing an ng-app
+ * @param {number} timeoutMillis How long to wait before giving up, or 0 to
+ *     wait for as long as the driver lets the script run.
+ * @param {function(!Object)} callback callback. Passed the time waited in
+ *     milliseconds, the testabilities awaited, whether the wait timed out and
+ *     any error.
+ */
+functions.waitForAngularWithTiming = function(rootSelector, timeoutMillis, callback) {
+  var now = function() {
+    return window.performance ? window.performance.now() : new Date().getTime();
+  };
+  var start = now();
+  var awaited = [];
+  // held at one until every wait is registered, as whenStable may call back at once
+  var pending = 1;
+  var done = false;
+  var timer = null;
+  var finish = function(timedOut, error) {
+    if (done) {
+      return;
+    }
+    done = true;
+    if (timer) {
+      clearTimeout(timer);
+    }
+    callback({millis: now() - start, awaited: awaited, timedOut: timedOut,
+      error: error || null});
+  };
+  var stable = function() {
+    if (--pending === 0) {
+      finish(false);
+    }
+  };
+  var wait = function(name, whenStable) {
+    awaited.push(name);
+    pending++;
+    whenStable(stable);
+  };
+
+  try {
+    if (!(window.angular) && !(window.getAngularTestability)) {
+      throw new Error(
+          'both angularJS testability and angular testability are undefined.' +
+          '  This could be either ' +
+          'because this is a non-angular page or because your test involves ' +
+          'client-side navigation, which can interfere with Protractor\'s ' +
+          'bootstrapping.  See http://git.io/v4gXM for details');
+    }
+    if (window.angular) {
+      var hooks = getNg1Hooks(rootSelector);
+      if (!hooks) {
+        // not an angular1 app
+      } else if (hooks.$$testability) {
+        wait('angularjs', function(cb) {
+          hooks.$$testability.whenStable(cb);
+        });
+      } else if (hooks.$injector) {
+        wait('angularjs', function(cb) {
+          hooks.$injector.get('$browser').notifyWhenNoOutstandingRequests(cb);
+        });
+      } else if (!rootSelector) {
+        throw new Error(
+            'Could not automatically find injector on page: "' +
+            window.location.toString() + '".  Consider using config.rootEl');
+      } else {
+        throw new Error(
+            'root element (' + rootSelector + ') has no injector.' +
+            ' this may mean it is not inside ng-app.');
+      }
+    }
+    if (window.getAngularTestability) {
+      var testability = null;
+      if (rootSelector) {
+        try {
+          testability = window.getAngularTestability(
+              document.querySelector(rootSelector));
+        } catch(e) {}
+      }
+      if (testability) {
+        wait('angular ' + rootSelector, function(cb) {
+          testability.whenStable(cb);
+        });
+      } else {
+        // a hybrid app may have more than one root
+        window.getAllAngularTestabilities().forEach(function(t, i) {
+          wait('angular #' + i, function(cb) {
+            t.whenStable(cb);
+          });
+        });
+      }
+    }
+    if (timeoutMillis) {
+      timer = setTimeout(function() {
+        finish(true);
+      }, timeoutMillis);
+    }
+    stable();
+  } catch (err) {
+    finish(false, err.message);
+  }
+};
+
 /**
  * Find a list of elements in the page by their angular binding.
  *
@@ -234,18 +504,20 @@ functions.waitForAngular = function(rootSelector, callback) {
  * @param {boolean} exactMatch Whether the binding needs to be matched exactly
  * @param {Element} using The scope of the search.
  * @param {string} rootSelector The selector to use for the root app element.
+ * @param {number=} limit The most elements to find, if any.
  *
  * @return {Array.<Element>} The elements containing the binding.
  */
-functions.findBindings = function(binding, exactMatch, using, rootSelector) {
+functions.findBindings = function(binding, exactMatch, using, rootSelector, limit) {
   using = using || document;
   if (angular.getTestability) {
-    return getNg1Hooks(rootSelector).$$testability.
+    var found = getNg1Hooks(rootSelector).$$testability.
         findBindings(using, binding, exactMatch);
+    return limit ? Array.prototype.slice.call(found, 0, limit) : found;
   }
   var bindings = using.getElementsByClassName('ng-binding');
   var matches = [];
-  for (var i = 0; i < bindings.length; ++i) {
+  for (var i = 0; i < bindings.length && !(limit && matches.length >= limit); ++i) {
     var dataBinding = angular.element(bindings[i]).data('$binding');
     if (dataBinding) {
       var bindingName = dataBinding.exp || dataBinding[0].exp || dataBinding;
@@ -277,51 +549,31 @@ functions.findBindings = function(binding, exactMatch, using, rootSelector) {
  * @param {boolean} exact Whether the repeater needs to be matched exactly
  * @param {number} index The row index.
  * @param {Element} using The scope of the search.
+ * @param {number=} limit The most elements to find, if any.
  *
  * @return {Array.<Element>} The row of the repeater, or an array of elements
  *     in the first row in the case of ng-repeat-start.
  */
-function findRepeaterRows(repeater, exact, index, using) {
-  using = using || document;
-
-  var prefixes = ['ng-', 'ng_', 'data-ng-', 'x-ng-', 'ng\\:'];
+function findRepeaterRows(repeater, exact, index, using, limit) {
   var rows = [];
-  for (var p = 0; p < prefixes.length; ++p) {
-    var attr = prefixes[p] + 'repeat';
-    var repeatElems = using.querySelectorAll('[' + attr + ']');
-    attr = attr.replace(/\\/g, '');
-    for (var i = 0; i < repeatElems.length; ++i) {
-      if (repeaterMatch(repeatElems[i].getAttribute(attr), repeater, exact)) {
-        rows.push(repeatElems[i]);
-      }
-    }
-  }
+  forEachRepeaterRow(repeater, exact, using, function(row) {
+    rows.push(row[0]);
+    return rows.length > index;
+  }, false);
   /* multiRows is an array of arrays, where each inner array contains
      one row of elements. */
   var multiRows = [];
-  for (var p = 0; p < prefixes.length; ++p) {
-    var attr = prefixes[p] + 'repeat-start';
-    var repeatElems = using.querySelectorAll('[' + attr + ']');
-    attr = attr.replace(/\\/g, '');
-    for (var i = 0; i < repeatElems.length; ++i) {
-      if (repeaterMatch(repeatElems[i].getAttribute(attr), repeater, exact)) {
-        var elem = repeatElems[i];
-        var row = [];
-        while (elem.nodeType != 8 ||
-            !repeaterMatch(elem.nodeValue, repeater)) {
-          if (elem.nodeType == 1) {
-            row.push(elem);
-          }
-          elem = elem.nextSibling;
-        }
-        multiRows.push(row);
-      }
-    }
-  }
+  forEachRepeaterRow(repeater, exact, using, function(row) {
+    multiRows.push(row);
+    return multiRows.length > index;
+  }, true);
   var row = rows[index] || [], multiRow = multiRows[index] || [];
-  return [].concat(row, multiRow);
+  var found = [].concat(row, multiRow);
+  return limit ? found.slice(0, limit) : found;
 }
-functions.findRepeaterRows = wrapWithHelpers(findRepeaterRows, repeaterMatch);
+functions.findRepeaterRows =
+    wrapWithHelpers(findRepeaterRows, forEachRepeaterRow, repeaterMatch,
+        parseRepeat);
 
  /**
  * Find all rows of an ng-repeat.
@@ -329,44 +581,136 @@ functions.findRepeaterRows = wrapWithHelpers(findRepeaterRows, repeaterMatch);
  * @param {string} repeater The text of the repeater, e.g. 'cat in cats'.
  * @param {boolean} exact Whether the repeater needs to be matched exactly
  * @param {Element} using The scope of the search.
+ * @param {number=} limit The most elements to find, if any.
  *
  * @return {Array.<Element>} All rows of the repeater.
  */
-function findAllRepeaterRows(repeater, exact, using) {
-  using = using || document;
+function findAllRepeaterRows(repeater, exact, using, limit) {
+  var rows = [];
+  forEachRepeaterRow(repeater, exact, using, function(row) {
+    rows.push.apply(rows, row);
+    return limit && rows.length >= limit;
+  });
+  return limit ? rows.slice(0, limit) : rows;
+}
+functions.findAllRepeaterRows =
+    wrapWithHelpers(findAllRepeaterRows, forEachRepeaterRow, repeaterMatch,
+        parseRepeat);
 
+/**
+ * Find a page of the rows of an ng-repeat. A page starts after the last row of
+ * the page before, so that paging through a repeater goes through each row
+ * once. A row of ng-repeat-start is all the elements of its segment, so a page
+ * has whole segments.
+ *
+ * @param {string} repeater The text of the repeater, e.g. 'cat in cats'.
+ * @param {boolean} exact Whether the repeater needs to be matched exactly
+ * @param {Element} after The first element of the last row of the page before,
+ *     or null for the first page.
+ * @param {number} limit The most rows in the page.
+ * @param {boolean} count Whether to count the rows from the page on, which
+ *     means going through them all.
+ * @param {Element} using The scope of the search.
+ *
+ * @return {{rows: Array.<Element>, size: number, last: ?Element,
+ *     total: ?number}} The elements of the rows of the page, how many rows
+ *     that is, the first element of the last of them, and if asked for, how
+ *     many rows there are from the page on.
+ */
+function findRepeaterRowsPage(repeater, exact, after, limit, count, using) {
   var rows = [];
-  var prefixes = ['ng-', 'ng_', 'data-ng-', 'x-ng-', 'ng\\:'];
-  for (var p = 0; p < prefixes.length; ++p) {
-    var attr = prefixes[p] + 'repeat';
-    var repeatElems = using.querySelectorAll('[' + attr + ']');
-    attr = attr.replace(/\\/g, '');
-    for (var i = 0; i < repeatElems.length; ++i) {
-      if (repeaterMatch(repeatElems[i].getAttribute(attr), repeater, exact)) {
-        rows.push(repeatElems[i]);
-      }
+  var size = 0;
+  var total = 0;
+  var last = null;
+  forEachRepeaterRow(repeater, exact, using, function(row) {
+    if (size < limit) {
+      rows.push.apply(rows, row);
+      last = row[0];
+      size++;
     }
+    total++;
+    return !count && size >= limit;
+  }, undefined, after);
+  return {rows: rows, size: size, last: last, total: count ? total : null};
+}
+functions.findRepeaterRowsPage =
+    wrapWithHelpers(findRepeaterRowsPage, forEachRepeaterRow, repeaterMatch,
+        parseRepeat);
+
+/* What identifies a row of an ng-repeat when the rows are re-ordered, filtered
+ * or rendered again: the value of its `track by` expression (unless that is
+ * $index), or else the $id of its scope. Needs the scope of the row, so is
+ * null if debug info is disabled.
+ *
+ * @param {Element} row The (first) element of the row
+ * @param {string} ngRepeat The ngRepeat expression of the row
+ * @return {?string} The identity of the row
+ */
+function repeaterRowIdentity(row, ngRepeat) {
+  var scope = window.angular && angular.element(row).scope();
+  if (!scope) {
+    return null;
   }
-  for (var p = 0; p < prefixes.length; ++p) {
-    var attr = prefixes[p] + 'repeat-start';
-    var repeatElems = using.querySelectorAll('[' + attr + ']');
-    attr = attr.replace(/\\/g, '');
-    for (var i = 0; i < repeatElems.length; ++i) {
-      if (repeaterMatch(repeatElems[i].getAttribute(attr), repeater, exact)) {
-        var elem = repeatElems[i];
-        while (elem.nodeType != 8 ||
-            !repeaterMatch(elem.nodeValue, repeater)) {
-          if (elem.nodeType == 1) {
-            rows.push(elem);
-          }
-          elem = elem.nextSibling;
-        }
-      }
+  var trackBy = parseRepeat(ngRepeat).trackBy;
+  if (trackBy && trackBy != '$index') {
+    var key = scope.$eval(trackBy);
+    if (key !== undefined) {
+      return 'track by ' + JSON.stringify(key);
     }
   }
-  return rows;
+  return '$id ' + scope.$id;
 }
-functions.findAllRepeaterRows = wrapWithHelpers(findAllRepeaterRows, repeaterMatch);
+
+/**
+ * Find a row of an ng-repeat, and what identifies it.
+ *
+ * @param {string} repeater The text of the repeater, e.g. 'cat in cats'.
+ * @param {boolean} exact Whether the repeater needs to be matched exactly
+ * @param {number} index The index of the row, in document order.
+ * @param {Element} using The scope of the search.
+ *
+ * @return {?{row: Array.<Element>, identity: ?string}} The elements of the row
+ *     (more than one for ng-repeat-start) and its identity, or null if there
+ *     is no such row.
+ */
+function identifyRepeaterRow(repeater, exact, index, using) {
+  var found = null;
+  var count = 0;
+  forEachRepeaterRow(repeater, exact, using, function(row, isStart, ngRepeat) {
+    if (count++ == index) {
+      found = {row: row, identity: repeaterRowIdentity(row[0], ngRepeat)};
+      return true;
+    }
+  });
+  return found;
+}
+functions.identifyRepeaterRow =
+    wrapWithHelpers(identifyRepeaterRow, repeaterRowIdentity,
+        forEachRepeaterRow, repeaterMatch, parseRepeat);
+
+/**
+ * Find a row of an ng-repeat by its identity, wherever it is now.
+ *
+ * @param {string} repeater The text of the repeater, e.g. 'cat in cats'.
+ * @param {boolean} exact Whether the repeater needs to be matched exactly
+ * @param {string} identity The identity of the row, from identifyRepeaterRow.
+ * @param {Element} using The scope of the search.
+ *
+ * @return {Array.<Element>} The elements of the row, or none if it is gone.
+ */
+function findRepeaterRowByIdentity(repeater, exact, identity, using) {
+  var found = [];
+  forEachRepeaterRow(repeater, exact, using, function(row, isStart, ngRepeat) {
+    if (repeaterRowIdentity(row[0], ngRepeat) == identity) {
+      found = row;
+      return true;
+    }
+  });
+  return found;
+}
+functions.findRepeaterRowByIdentity =
+    wrapWithHelpers(findRepeaterRowByIdentity, repeaterRowIdentity,
+        forEachRepeaterRow, repeaterMatch, parseRepeat);
 
 /**
  * Find an element within an ng-repeat by its row and column.
@@ -377,97 +721,67 @@ functions.findAllRepeaterRows = wrapWithHelpers(findAllRepeaterRows, repeaterMat
  * @param {string} binding The column binding, e.g. '{{cat.name}}'.
  * @param {Element} using The scope of the search.
  * @param {string} rootSelector The selector to use for the root app element.
+ * @param {number=} limit The most elements to find, if any.
  *
  * @return {Array.<Element>} The element in an array.
  */
-function findRepeaterElement(repeater, exact, index, binding, using, rootSelector) {
+function findRepeaterElement(repeater, exact, index, binding, using, rootSelector, limit) {
   var matches = [];
-  using = using || document;
-
   var rows = [];
-  var prefixes = ['ng-', 'ng_', 'data-ng-', 'x-ng-', 'ng\\:'];
-  for (var p = 0; p < prefixes.length; ++p) {
-    var attr = prefixes[p] + 'repeat';
-    var repeatElems = using.querySelectorAll('[' + attr + ']');
-    attr = attr.replace(/\\/g, '');
-    for (var i = 0; i < repeatElems.length; ++i) {
-      if (repeaterMatch(repeatElems[i].getAttribute(attr), repeater, exact)) {
-        rows.push(repeatElems[i]);
-      }
-    }
-  }
+  forEachRepeaterRow(repeater, exact, using, function(row) {
+    rows.push(row[0]);
+    return rows.length > index;
+  }, false);
   /* multiRows is an array of arrays, where each inner array contains
      one row of elements. */
   var multiRows = [];
-  for (var p = 0; p < prefixes.length; ++p) {
-    var attr = prefixes[p] + 'repeat-start';
-    var repeatElems = using.querySelectorAll('[' + attr + ']');
-    attr = attr.replace(/\\/g, '');
-    for (var i = 0; i < repeatElems.length; ++i) {
-      if (repeaterMatch(repeatElems[i].getAttribute(attr), repeater, exact)) {
-        var elem = repeatElems[i];
-        var row = [];
-        while (elem.nodeType != 8 || (elem.nodeValue &&
-            !repeaterMatch(elem.nodeValue, repeater))) {
-          if (elem.nodeType == 1) {
-            row.push(elem);
-          }
-          elem = elem.nextSibling;
+  forEachRepeaterRow(repeater, exact, using, function(row) {
+    multiRows.push(row);
+    return multiRows.length > index;
+  }, true);
+  var full = function() {
+    return limit && matches.length >= limit;
+  };
+  var testability = null;
+  var collect = function(elem) {
+    if (angular.getTestability) {
+      testability = testability || getNg1Hooks(rootSelector).$$testability;
+      matches.push.apply(matches, testability.findBindings(elem, binding));
+      return;
+    }
+    var bindings = [];
+    if (elem.className.indexOf('ng-binding') != -1) {
+      bindings.push(elem);
+    }
+    var childBindings = elem.getElementsByClassName('ng-binding');
+    for (var k = 0; k < childBindings.length; ++k) {
+      bindings.push(childBindings[k]);
+    }
+    for (var k = 0; k < bindings.length && !full(); ++k) {
+      var dataBinding = angular.element(bindings[k]).data('$binding');
+      if (dataBinding) {
+        var bindingName = dataBinding.exp || dataBinding[0].exp || dataBinding;
+        if (bindingName.indexOf(binding) != -1) {
+          matches.push(bindings[k]);
         }
-        multiRows.push(row);
       }
     }
-  }
+  };
   var row = rows[index];
   var multiRow = multiRows[index];
-  var bindings = [];
   if (row) {
-    if (angular.getTestability) {
-      matches.push.apply(
-          matches,
-          getNg1Hooks(rootSelector).$$testability.findBindings(row, binding));
-    } else {
-      if (row.className.indexOf('ng-binding') != -1) {
-        bindings.push(row);
-      }
-      var childBindings = row.getElementsByClassName('ng-binding');
-      for (var i = 0; i < childBindings.length; ++i) {
-        bindings.push(childBindings[i]);
-      }
-    }
+    collect(row);
   }
   if (multiRow) {
-    for (var i = 0; i < multiRow.length; ++i) {
-      var rowElem = multiRow[i];
-      if (angular.getTestability) {
-        matches.push.apply(
-            matches,
-            getNg1Hooks(rootSelector).$$testability.findBindings(rowElem,
-                binding));
-      } else {
-        if (rowElem.className.indexOf('ng-binding') != -1) {
-          bindings.push(rowElem);
-        }
-        var childBindings = rowElem.getElementsByClassName('ng-binding');
-        for (var j = 0; j < childBindings.length; ++j) {
-          bindings.push(childBindings[j]);
-        }
-      }
+    for (var i = 0; i < multiRow.length && !full(); ++i) {
+      collect(multiRow[i]);
     }
   }
-  for (var i = 0; i < bindings.length; ++i) {
-    var dataBinding = angular.element(bindings[i]).data('$binding');
-    if (dataBinding) {
-      var bindingName = dataBinding.exp || dataBinding[0].exp || dataBinding;
-      if (bindingName.indexOf(binding) != -1) {
-        matches.push(bindings[i]);
-      }
-    }
-  }
-  return matches;
+  return limit ? matches.slice(0, limit) : matches;
 }
 functions.findRepeaterElement =
-    wrapWithHelpers(findRepeaterElement, repeaterMatch, getNg1Hooks);
+    wrapWithHelpers(findRepeaterElement, forEachRepeaterRow, repeaterMatch,
+        parseRepeat, getNg1Hooks);
 
 /**
  * Find the elements in a column of an ng-repeat.
@@ -477,96 +791,190 @@ functions.findRepeaterElement =
  * @param {string} binding The column binding, e.g. '{{cat.name}}'.
  * @param {Element} using The scope of the search.
  * @param {string} rootSelector The selector to use for the root app element.
+ * @param {number=} limit The most elements to find, if any.
  *
  * @return {Array.<Element>} The elements in the column.
  */
-function findRepeaterColumn(repeater, exact, binding, using, rootSelector) {
+function findRepeaterColumn(repeater, exact, binding, using, rootSelector, limit) {
   var matches = [];
-  using = using || document;
-
-  var rows = [];
-  var prefixes = ['ng-', 'ng_', 'data-ng-', 'x-ng-', 'ng\\:'];
-  for (var p = 0; p < prefixes.length; ++p) {
-    var attr = prefixes[p] + 'repeat';
-    var repeatElems = using.querySelectorAll('[' + attr + ']');
-    attr = attr.replace(/\\/g, '');
-    for (var i = 0; i < repeatElems.length; ++i) {
-      if (repeaterMatch(repeatElems[i].getAttribute(attr), repeater, exact)) {
-        rows.push(repeatElems[i]);
-      }
+  var full = function() {
+    return limit && matches.length >= limit;
+  };
+  var testability = null;
+  var collect = function(elem) {
+    if (angular.getTestability) {
+      testability = testability || getNg1Hooks(rootSelector).$$testability;
+      matches.push.apply(matches, testability.findBindings(elem, binding));
+      return;
     }
-  }
-  /* multiRows is an array of arrays, where each inner array contains
-     one row of elements. */
-  var multiRows = [];
-  for (var p = 0; p < prefixes.length; ++p) {
-    var attr = prefixes[p] + 'repeat-start';
-    var repeatElems = using.querySelectorAll('[' + attr + ']');
-    attr = attr.replace(/\\/g, '');
-    for (var i = 0; i < repeatElems.length; ++i) {
-      if (repeaterMatch(repeatElems[i].getAttribute(attr), repeater, exact)) {
-        var elem = repeatElems[i];
-        var row = [];
-        while (elem.nodeType != 8 || (elem.nodeValue &&
-            !repeaterMatch(elem.nodeValue, repeater))) {
-          if (elem.nodeType == 1) {
-            row.push(elem);
-          }
-          elem = elem.nextSibling;
+    var bindings = [];
+    if (elem.className.indexOf('ng-binding') != -1) {
+      bindings.push(elem);
+    }
+    var childBindings = elem.getElementsByClassName('ng-binding');
+    for (var k = 0; k < childBindings.length; ++k) {
+      bindings.push(childBindings[k]);
+    }
+    for (var k = 0; k < bindings.length && !full(); ++k) {
+      var dataBinding = angular.element(bindings[k]).data('$binding');
+      if (dataBinding) {
+        var bindingName = dataBinding.exp || dataBinding[0].exp || dataBinding;
+        if (bindingName.indexOf(binding) != -1) {
+          matches.push(bindings[k]);
         }
-        multiRows.push(row);
       }
     }
-  }
-  var bindings = [];
-  for (var i = 0; i < rows.length; ++i) {
-    if (angular.getTestability) {
-      matches.push.apply(
-          matches,
-          getNg1Hooks(rootSelector).$$testability.findBindings(rows[i],
-              binding));
-    } else {
-      if (rows[i].className.indexOf('ng-binding') != -1) {
-        bindings.push(rows[i]);
-      }
-      var childBindings = rows[i].getElementsByClassName('ng-binding');
-      for (var k = 0; k < childBindings.length; ++k) {
-        bindings.push(childBindings[k]);
-      }
+  };
+  forEachRepeaterRow(repeater, exact, using, function(row) {
+    for (var i = 0; i < row.length && !full(); ++i) {
+      collect(row[i]);
     }
-  }
-  for (var i = 0; i < multiRows.length; ++i) {
-    for (var j = 0; j < multiRows[i].length; ++j) {
-      if (angular.getTestability) {
-        matches.push.apply(
-            matches,
-            getNg1Hooks(rootSelector).$$testability.findBindings(
-                multiRows[i][j], binding));
-      } else {
-        var elem = multiRows[i][j];
-        if (elem.className.indexOf('ng-binding') != -1) {
-          bindings.push(elem);
+    return full();
+  });
+  return limit ? matches.slice(0, limit) : matches;
+}
+functions.findRepeaterColumn =
+    wrapWithHelpers(findRepeaterColumn, forEachRepeaterRow, repeaterMatch,
+        parseRepeat, getNg1Hooks);
+
+/**
+ * Read every row of an ng-repeat as the values of some of its columns.
+ *
+ * @param {string} repeater The text of the repeater, e.g. 'cat in cats'.
+ * @param {boolean} exact Whether the repeater needs to be matched exactly
+ * @param {Array.<string>} columns The column bindings, e.g. 'cat.name', or
+ *     the expressions to evaluate in each row's scope if scopeValues is set.
+ * @param {boolean} scopeValues Whether to evaluate the columns in the scope of
+ *     each row, rather than read the text of the first binding that matches.
+ * @param {Element} using The scope of the search.
+ * @param {string} rootSelector The selector to use for the root app element.
+ *
+ * @return {Array.<Array>} An array per row, of the values of the columns.
+ */
+function snapshotRepeater(repeater, exact, columns, scopeValues, using, rootSelector) {
+  /* every row is an array of elements, with more than one for ng-repeat-start */
+  var rows = [];
+  forEachRepeaterRow(repeater, exact, using, function(row) {
+    rows.push(row);
+  });
+
+  var testability = !scopeValues && angular.getTestability ?
+      getNg1Hooks(rootSelector).$$testability : null;
+  var textOf = function(rowElems, binding) {
+    for (var i = 0; i < rowElems.length; ++i) {
+      if (testability) {
+        var found = testability.findBindings(rowElems[i], binding);
+        if (found.length) {
+          return textContentOf(found[0]).trim();
         }
-        var childBindings = elem.getElementsByClassName('ng-binding');
-        for (var k = 0; k < childBindings.length; ++k) {
-          bindings.push(childBindings[k]);
+        continue;
+      }
+      var bindings = [];
+      if (rowElems[i].className.indexOf('ng-binding') != -1) {
+        bindings.push(rowElems[i]);
+      }
+      var childBindings = rowElems[i].getElementsByClassName('ng-binding');
+      for (var j = 0; j < childBindings.length; ++j) {
+        bindings.push(childBindings[j]);
+      }
+      for (var j = 0; j < bindings.length; ++j) {
+        var dataBinding = angular.element(bindings[j]).data('$binding');
+        if (dataBinding) {
+          var bindingName = dataBinding.exp || dataBinding[0].exp || dataBinding;
+          if (bindingName.indexOf(binding) != -1) {
+            return textContentOf(bindings[j]).trim();
+          }
         }
       }
     }
+    return null;
+  };
+
+  var snapshot = [];
+  for (var r = 0; r < rows.length; ++r) {
+    var scope = scopeValues ? angular.element(rows[r][0]).scope() : null;
+    var values = [];
+    for (var c = 0; c < columns.length; ++c) {
+      values.push(scopeValues ? scope.$eval(columns[c]) : textOf(rows[r], columns[c]));
+    }
+    snapshot.push(values);
   }
-  for (var j = 0; j < bindings.length; ++j) {
-    var dataBinding = angular.element(bindings[j]).data('$binding');
-    if (dataBinding) {
-      var bindingName = dataBinding.exp || dataBinding[0].exp || dataBinding;
-      if (bindingName.indexOf(binding) != -1) {
-        matches.push(bindings[j]);
-      }
+  return snapshot;
+}
+functions.snapshotRepeater =
+    wrapWithHelpers(snapshotRepeater, forEachRepeaterRow, repeaterMatch,
+        parseRepeat, getNg1Hooks, textContentOf);
+
+/**
+ * Quote a value for an attribute selector, as ByAngular.prefixedSelector(..)
+ * does in Java, so that backslashes, quotes and line breaks match literally.
+ *
+ * @param {string} value The value of the attribute.
+ *
+ * @return {string} The value, quoted.
+ */
+function cssString(value) {
+  return '"' + value.replace(/\\/g, '\\\\').replace(/"/g, '\\"').
+      replace(/\n/g, '\\a ') + '"';
+}
+
+/**
+ * Find the elements matching a selector (a list of them, for every prefix),
+ * in document order.
+ *
+ * @param {string} selector The css selector.
+ * @param {Element} using The scope of the search.
+ * @param {number=} limit The most elements to find, if any.
+ *
+ * @return {Array.<Element>} The matching elements.
+ */
+function findBySelector(selector, using, limit) {
+  if (limit == 1) {
+    var element = using.querySelector(selector);
+    return element ? [element] : [];
+  }
+  var elements = using.querySelectorAll(selector);
+  return limit ? Array.prototype.slice.call(elements, 0, limit) : elements;
+}
+
+/**
+ * The text of an element. innerText is only for browsers without textContent,
+ * as reading it lays out the page.
+ *
+ * @param {Element} element The element.
+ *
+ * @return {string} Its text.
+ */
+function textContentOf(element) {
+  return element.textContent != null ? element.textContent :
+      element.innerText || '';
+}
+
+/**
+ * Find buttons (and inputs of type button and submit) by their text, in one
+ * query for all three.
+ *
+ * @param {function(string): boolean} textMatches Whether a button's text is
+ *     one to find.
+ * @param {Element} using The scope of the search.
+ * @param {number=} limit The most elements to find, if any.
+ *
+ * @return {Array.<Element>} The matching elements.
+ */
+function findButtons(textMatches, using, limit) {
+  var elements = (using || document).querySelectorAll(
+      'button, input[type="button"], input[type="submit"]');
+  var matches = [];
+  for (var i = 0; i < elements.length && !(limit && matches.length >= limit); ++i) {
+    var element = elements[i];
+    var elementText = element.tagName.toLowerCase() == 'button' ?
+        textContentOf(element) : element.value;
+    if (textMatches(elementText)) {
+      matches.push(element);
     }
   }
   return matches;
 }
-functions.findRepeaterColumn =
-    wrapWithHelpers(findRepeaterColumn, repeaterMatch, getNg1Hooks);
 
 /**
  * Find elements by model name.
@@ -574,24 +982,24 @@ functions.findRepeaterColumn =
  * @param {string} model The model name.
  * @param {Element} using The scope of the search.
  * @param {string} rootSelector The selector to use for the root app element.
+ * @param {number=} limit The most elements to find, if any.
  *
  * @return {Array.<Element>} The matching elements.
  */
-functions.findByModel = function(model, using, rootSelector) {
+functions.findByModel = function(model, using, rootSelector, limit) {
   using = using || document;
 
   if (angular.getTestability) {
-    return getNg1Hooks(rootSelector).$$testability.
+    var found = getNg1Hooks(rootSelector).$$testability.
         findModels(using, model, true);
+    return limit ? Array.prototype.slice.call(found, 0, limit) : found;
   }
   var prefixes = ['ng-', 'ng_', 'data-ng-', 'x-ng-', 'ng\\:'];
+  var selectors = [];
   for (var p = 0; p < prefixes.length; ++p) {
-    var selector = '[' + prefixes[p] + 'model="' + model + '"]';
-    var elements = using.querySelectorAll(selector);
-    if (elements.length) {
-      return elements;
-    }
+    selectors.push('[' + prefixes[p] + 'model=' + cssString(model) + ']');
   }
+  return findBySelector(selectors.join(', '), using, limit);
 };
 
 /**
@@ -600,20 +1008,20 @@ functions.findByModel = function(model, using, rootSelector) {
  * @param {string} optionsDescriptor The descriptor for the option
  *     (i.e. fruit for fruit in fruits).
  * @param {Element} using The scope of the search.
+ * @param {number=} limit The most elements to find, if any.
  *
  * @return {Array.<Element>} The matching elements.
  */
-functions.findByOptions = function(optionsDescriptor, using) {
+functions.findByOptions = function(optionsDescriptor, using, limit) {
   using = using || document;
 
   var prefixes = ['ng-', 'ng_', 'data-ng-', 'x-ng-', 'ng\\:'];
+  var selectors = [];
   for (var p = 0; p < prefixes.length; ++p) {
-    var selector = '[' + prefixes[p] + 'options="' + optionsDescriptor + '"] option';
-    var elements = using.querySelectorAll(selector);
-    if (elements.length) {
-      return elements;
-    }
+    selectors.push('[' + prefixes[p] + 'options=' + cssString(optionsDescriptor) +
+        '] option');
   }
+  return findBySelector(selectors.join(', '), using, limit);
 };
 
 /**
@@ -621,28 +1029,14 @@ functions.findByOptions = function(optionsDescriptor, using) {
  *
  * @param {string} searchText The exact text to match.
  * @param {Element} using The scope of the search.
+ * @param {number=} limit The most elements to find, if any.
  *
  * @return {Array.<Element>} The matching elements.
  */
-functions.findByButtonText = function(searchText, using) {
-  using = using || document;
-
-  var elements = using.querySelectorAll('button, input[type="button"], input[type="submit"]');
-  var matches = [];
-  for (var i = 0; i < elements.length; ++i) {
-    var element = elements[i];
-    var elementText;
-    if (element.tagName.toLowerCase() == 'button') {
-      elementText = element.textContent || element.innerText || '';
-    } else {
-      elementText = element.value;
-    }
-    if (elementText.trim() === searchText) {
-      matches.push(element);
-    }
-  }
-
-  return matches;
+functions.findByButtonText = function(searchText, using, limit) {
+  return findButtons(function(elementText) {
+    return elementText.trim() === searchText;
+  }, using, limit);
 };
 
 /**
@@ -650,28 +1044,14 @@ functions.findByButtonText = function(searchText, using) {
  *
  * @param {string} searchText The exact text to match.
  * @param {Element} using The scope of the search.
+ * @param {number=} limit The most elements to find, if any.
  *
  * @return {Array.<Element>} The matching elements.
  */
-functions.findByPartialButtonText = function(searchText, using) {
-  using = using || document;
-
-  var elements = using.querySelectorAll('button, input[type="button"], input[type="submit"]');
-  var matches = [];
-  for (var i = 0; i < elements.length; ++i) {
-    var element = elements[i];
-    var elementText;
-    if (element.tagName.toLowerCase() == 'button') {
-      elementText = element.textContent || element.innerText || '';
-    } else {
-      elementText = element.value;
-    }
-    if (elementText.indexOf(searchText) > -1) {
-      matches.push(element);
-    }
-  }
-
-  return matches;
+functions.findByPartialButtonText = function(searchText, using, limit) {
+  return findButtons(function(elementText) {
+    return elementText.indexOf(searchText) > -1;
+  }, using, limit);
 };
 
 /**
@@ -680,10 +1060,11 @@ functions.findByPartialButtonText = function(searchText, using) {
  * @param {string} cssSelector The css selector to match.
  * @param {string} searchText The exact text to match or a serialized regex.
  * @param {Element} using The scope of the search.
+ * @param {number=} limit The most elements to find, if any.
  *
  * @return {Array.<Element>} An array of matching elements.
  */
-functions.findByCssContainingText = function(cssSelector, searchText, using) {
+functions.findByCssContainingText = function(cssSelector, searchText, using, limit) {
   using = using || document;
 
   if (searchText.indexOf('__REGEXP__') === 0) {
@@ -692,9 +1073,9 @@ functions.findByCssContainingText = function(cssSelector, searchText, using) {
   }
   var elements = using.querySelectorAll(cssSelector);
   var matches = [];
-  for (var i = 0; i < elements.length; ++i) {
+  for (var i = 0; i < elements.length && !(limit && matches.length >= limit); ++i) {
     var element = elements[i];
-    var elementText = element.textContent || element.innerText || '';
+    var elementText = textContentOf(element);
     var elementMatches = searchText instanceof RegExp ?
         searchText.test(elementText) :
         elementText.indexOf(searchText) > -1;
@@ -706,6 +1087,81 @@ functions.findByCssContainingText = function(cssSelector, searchText, using) {
   return matches;
 };
 
+/**
+ * Call a finder, or answer from what it found with the same arguments before,
+ * if the page hasn't changed since. What was found is kept in the page until
+ * the DOM changes (seen by a MutationObserver) or AngularJS digests (seen by a
+ * watch on $rootScope).
+ *
+ * @param {string} name The name of the finder.
+ * @param {function(...*): Array.<Element>} finder The finder.
+ * @param {Arguments} args The arguments for the finder.
+ *
+ * @return {Array.<Element>} The elements the finder found.
+ */
+functions.findCached = function(name, finder, args) {
+  var cache = window.__ngwdResults;
+  if (!cache) {
+    cache = window.__ngwdResults = {results: {}, hits: 0, misses: 0, nextId: 0};
+    if (window.MutationObserver && window.WeakMap) {
+      cache.ids = new WeakMap();
+      cache.observer = new MutationObserver(function() {
+        cache.results = {};
+      });
+      cache.observer.observe(document.documentElement, {childList: true,
+          subtree: true, attributes: true, characterData: true});
+    }
+  }
+  if (!cache.observer) {
+    cache.misses++;
+    return finder.apply(this, args);
+  }
+  if (cache.observer.takeRecords().length) {
+    cache.results = {};
+  }
+  if (!cache.watching && window.angular) {
+    var hooks = getNg1Hooks(null, true);
+    if (hooks && hooks.$injector) {
+      hooks.$injector.get('$rootScope').$watch(function() {
+        cache.results = {};
+      });
+      cache.watching = true;
+    }
+  }
+
+  var key = name;
+  for (var i = 0; i < args.length; ++i) {
+    if (args[i] && args[i].nodeType) {
+      if (!cache.ids.has(args[i])) {
+        cache.ids.set(args[i], ++cache.nextId);
+      }
+      key += '|#' + cache.ids.get(args[i]);
+    } else {
+      key += '|' + JSON.stringify(args[i]);
+    }
+  }
+  if (cache.results.hasOwnProperty(key)) {
+    cache.hits++;
+    return cache.results[key];
+  }
+  cache.misses++;
+  var found = finder.apply(this, args);
+  cache.results[key] = found ? Array.prototype.slice.call(found) : found;
+  return found;
+};
+
+/**
+ * How often findCached answered from what was found before.
+ *
+ * @return {{hits: number, misses: number, size: number}} The searches answered
+ *     from the cache, those that weren't, and how many results it has now.
+ */
+functions.getResultCacheStatistics = function() {
+  var cache = window.__ngwdResults;
+  return cache ? {hits: cache.hits, misses: cache.misses,
+      size: Object.keys(cache.results).length} : {hits: 0, misses: 0, size: 0};
+};
+
 /**
  * Tests whether the angular global variable is present on a page. Retries
  * in case the page is just loading slowly.
@@ -778,6 +1234,55 @@ functions.evaluate = function(element, expression) {
   return angular.element(element).scope().$eval(expression);
 };
 
+/**
+ * Evalute several Angular expressions in the context of a given element.
+ *
+ * @param {Element} element The element in whose scope to evaluate.
+ * @param {Array.<string>} expressions The expressions to evaluate.
+ *
+ * @return {{values: !Object, missing: !Array.<string>}} The results of the
+ *     evaluations by expression (null ones included), and the expressions
+ *     that were undefined.
+ */
+functions.evaluateAll = function(element, expressions) {
+  var scope = angular.element(element).scope();
+  var values = {};
+  var missing = [];
+  for (var i = 0; i < expressions.length; ++i) {
+    var value = scope.$eval(expressions[i]);
+    if (value === undefined) {
+      missing.push(expressions[i]);
+    } else {
+      values[expressions[i]] = value;
+    }
+  }
+  return {values: values, missing: missing};
+};
+
+/**
+ * Assign several values in the scope of a given element, then digest once.
+ *
+ * @param {Element} element The element in whose scope to assign.
+ * @param {!Object} values The values to assign, keyed by assignable expression
+ *     (e.g. 'person.name').
+ * @param {string} rootSelector The selector housing an ng-app
+ * @param {string} digest How to digest afterwards, see digestScope.
+ *
+ * @return {number} The time taken by the digest, in milliseconds.
+ */
+function mutateAll(element, values, rootSelector, digest) {
+  var ngElement = angular.element(element);
+  var scope = ngElement.scope();
+  var $parse = ngElement.injector().get('$parse');
+  for (var expression in values) {
+    if (values.hasOwnProperty(expression)) {
+      $parse(expression).assign(scope, values[expression]);
+    }
+  }
+  return digestScope(element, rootSelector, digest);
+}
+functions.mutateAll = wrapWithHelpers(mutateAll, digestScope);
+
 functions.allowAnimations = function(element, value) {
   var ngElement = angular.element(element);
   if (ngElement.allowAnimations) {
@@ -837,8 +1342,8 @@ functions.getPendingHttpRequests = function(selector) {
   return $http.pendingRequests;
 };
 
-['waitForAngular', 'findBindings', 'findByModel', 'getLocationAbsUrl',
-  'setLocation', 'getPendingHttpRequests'].forEach(function(funName) {
+['waitForAngular', 'waitForAngularWithTiming', 'findBindings', 'findByModel',
+  'getLocationAbsUrl', 'setLocation', 'getPendingHttpRequests'].forEach(function(funName) {
     functions[funName] = wrapWithHelpers(functions[funName], getNg1Hooks);
 });
 
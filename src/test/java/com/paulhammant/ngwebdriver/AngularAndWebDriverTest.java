@@ -35,11 +35,15 @@ import org.seleniumhq.selenium.fluent.FluentWebElement;
 import org.seleniumhq.selenium.fluent.FluentWebElementMap;
 import org.seleniumhq.selenium.fluent.FluentWebElements;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.startsWith;
@@ -186,6 +190,28 @@ public class AngularAndWebDriverTest {
     // hasItems(results));
   }
 
+  @Test
+  public void installed_scripts_are_reinstalled_after_navigation() {
+
+    ByAngular.setInstallScriptsInPage(true);
+    try {
+      webDriver.get("http://localhost:8080/#/form");
+      ngWebDriver.waitForAngularRequestsToFinish();
+      Assertions.assertThat(webDriver.findElement(ByAngular.binding("username")).getText()).isEqualTo("Anon");
+      Assertions.assertThat(webDriver.executeScript("return typeof window.__ngwd;")).isEqualTo("object");
+
+      resetBrowser();
+      Assertions.assertThat(webDriver.executeScript("return typeof window.__ngwd;")).isEqualTo("undefined");
+
+      webDriver.get("http://localhost:8080/#/repeater");
+      ngWebDriver.waitForAngularRequestsToFinish();
+      Assertions.assertThat(webDriver.findElements(ByAngular.repeater("baz in days | filter:'T'")).size()).isEqualTo(2);
+      Assertions.assertThat(ngWebDriver.getLocationAbsUrl()).endsWith("/repeater");
+    } finally {
+      ByAngular.setInstallScriptsInPage(false);
+    }
+  }
+
   @Test
   @Ignore(value = "ignore message for find_multiple_hits_for_ng_repeat_in_page: angularjshub is down")
   public void find_multiple_hits_for_ng_repeat_in_page() {
@@ -304,6 +330,121 @@ public class AngularAndWebDriverTest {
     Assertions.assertThat(weeb.get(0).getText()).isEqualTo("Anon");
   }
 
+  @Test
+  public void find_many_locators_in_one_go() {
+
+    webDriver.get("http://localhost:8080/#/form");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    Map<String, By> locators = new LinkedHashMap<>();
+    locators.put("username", ByAngular.model("username"));
+    locators.put("greeting", ByAngular.exactBinding("username"));
+    locators.put("fruits", ByAngular.options("fruit for fruit in fruits"));
+    locators.put("nothing", ByAngular.binding("nothing.like.this"));
+    locators.put("checkboxes", By.cssSelector("#checkboxes input"));
+
+    FoundElements found = ngWebDriver.findAll(locators);
+
+    Assertions.assertThat(found.findElement("username").getAttribute("value")).isEqualTo("Anon");
+    Assertions.assertThat(found.findElement("greeting").getText()).isEqualTo("Anon");
+    Assertions.assertThat(found.findElements("fruits").get(0).getText()).contains("apple");
+    Assertions.assertThat(found.findElements("checkboxes")).isNotEmpty();
+    try {
+      found.findElements("nothing");
+      Assertions.fail("should have barfed");
+    }
+    catch (NoSuchElementException e) {
+      assertThat(e.getMessage(), startsWith("bindings(nothing.like.this) didn't have any matching elements at this place in the DOM"));
+    }
+  }
+
+  @Test
+  public void waiting_for_angular_reports_what_it_waited_on_and_for_how_long() {
+
+    webDriver.get("http://localhost:8080/#/form");
+
+    WaitResult wait = ngWebDriver.waitForAngularRequestsToFinish(5000);
+
+    Assertions.assertThat(wait.isStable()).isTrue();
+    Assertions.assertThat(wait.getAwaited()).containsExactly("angularjs");
+    Assertions.assertThat(wait.getMillis()).isLessThan(5000);
+  }
+
+  @Test
+  public void auto_syncing_driver_waits_only_after_something_has_changed() {
+
+    AutoSyncingWebDriver driver = new AutoSyncingWebDriver(webDriver);
+    driver.get("http://localhost:8080/#/form");
+    Assertions.assertThat(driver.isDirty()).isTrue();
+
+    WebElement username = driver.findElement(ByAngular.model("username"));
+    Assertions.assertThat(driver.isDirty()).isFalse();
+
+    username.clear();
+    username.sendKeys("Jo");
+    Assertions.assertThat(driver.isDirty()).isTrue();
+    Assertions.assertThat(driver.findElement(ByAngular.exactBinding("username")).getText()).isEqualTo("Jo");
+    Assertions.assertThat(driver.isDirty()).isFalse();
+
+    driver.getNgWebDriver().mutate(username, "username", "'Flo'");
+    Assertions.assertThat(driver.isDirty()).isTrue();
+    Assertions.assertThat(driver.findElement(ByAngular.exactBinding("username")).getText()).isEqualTo("Flo");
+  }
+
+  @Test
+  public void repeated_searches_are_answered_from_the_page_until_it_changes() {
+
+    webDriver.get("http://localhost:8080/#/form");
+    ngWebDriver.waitForAngularRequestsToFinish();
+    ByAngular.setCacheResultsInPage(true);
+    try {
+      WebElement username = webDriver.findElement(ByAngular.model("username"));
+      Assertions.assertThat(webDriver.findElements(ByAngular.exactBinding("username"))).hasSize(1);
+      Assertions.assertThat(webDriver.findElements(ByAngular.exactBinding("username"))).hasSize(1);
+      Assertions.assertThat(ngWebDriver.getResultCacheStatistics().getHits()).isEqualTo(1);
+
+      username.sendKeys("x");
+      ngWebDriver.waitForAngularRequestsToFinish();
+      Assertions.assertThat(webDriver.findElements(ByAngular.exactBinding("username"))).hasSize(1);
+      ResultCacheStatistics statistics = ngWebDriver.getResultCacheStatistics();
+      Assertions.assertThat(statistics.getHits()).isEqualTo(1);
+      Assertions.assertThat(statistics.getMisses()).isEqualTo(2);
+    } finally {
+      ByAngular.setCacheResultsInPage(false);
+    }
+  }
+
+  @Test
+  public void locators_can_be_counted_without_finding_the_elements() {
+
+    webDriver.get("http://localhost:8080/index.html#/repeater");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    Assertions.assertThat(ByAngular.repeater("allinfo in days").count(webDriver)).isEqualTo(5);
+    Assertions.assertThat(ByAngular.repeater("baz in days | filter:'T'").column("baz.initial").count(webDriver)).isEqualTo(2);
+    Assertions.assertThat(ByAngular.repeater("baz in days | filter:'T'").exists(webDriver)).isTrue();
+    Assertions.assertThat(ByAngular.binding("nothing.like.this").count(webDriver)).isEqualTo(0);
+    Assertions.assertThat(ByAngular.binding("nothing.like.this").exists(webDriver)).isFalse();
+  }
+
+  @Test
+  public void texts_and_attributes_are_read_along_with_finding_the_elements() {
+
+    webDriver.get("http://localhost:8080/index.html#/repeater");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    Assertions.assertThat(ngWebDriver.texts(ByAngular.repeater("baz in days | filter:'T'").column("baz.initial")))
+        .containsExactly("T", "Th");
+    Assertions.assertThat(ngWebDriver.attributes(ByAngular.repeater("baz in days | filter:'T'"), "ng-repeat"))
+        .containsExactly("baz in days | filter:'T'", "baz in days | filter:'T'");
+
+    webDriver.get("http://localhost:8080/#/form");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    Assertions.assertThat(ngWebDriver.values(ByAngular.model("username"))).containsExactly("Anon");
+    Assertions.assertThat(ngWebDriver.values(By.cssSelector("input[ng-model=username]"))).containsExactly("Anon");
+  }
+
   @Test
   @Ignore(value = "ignore message for find_all_for_an_angular_binding: angularjshub is down")
   public void find_all_for_an_angular_binding() {
@@ -409,6 +550,88 @@ public class AngularAndWebDriverTest {
 
   }
 
+  @Test
+  public void many_scope_variables_are_retrieved_in_one_go() {
+
+    webDriver.get("http://localhost:8080/#/form");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    WebElement username = webDriver.findElement(ByAngular.model("username"));
+
+    ngWebDriver.mutate(username, "nothing", "null");
+    ScopeValues values = ngWebDriver.retrieveAll(username, "username", "colors.length", "dayColors[1].day", "nope.nothing", "nothing");
+
+    Assertions.assertThat(values.getAsString("username")).isEqualTo("Anon");
+    Assertions.assertThat(values.getAsLong("colors.length")).isEqualTo(3L);
+    Assertions.assertThat(values.get("dayColors[1].day")).isEqualTo("Tue");
+    Assertions.assertThat(values.getMissing()).containsExactly("nope.nothing");
+    // null in scope, so not missing
+    Assertions.assertThat(values.get("nothing")).isNull();
+    try {
+      values.get("nope.nothing");
+      Assertions.fail("should have barfed");
+    }
+    catch (VariableNotInScopeException e) {
+      assertThat(e.getMessage(), startsWith("$scope variable 'nope.nothing' not found in same scope as the element passed in."));
+    }
+  }
+
+  @Test
+  public void many_scope_variables_are_changed_in_one_go() {
+
+    webDriver.get("http://localhost:8080/#/form");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    WebElement username = webDriver.findElement(ByAngular.model("username"));
+
+    Map<String, Object> values = new HashMap<>();
+    values.put("username", "Wilma's");
+    values.put("show", false);
+    values.put("dayColors[0].color", "blue");
+    ngWebDriver.mutateAll(username, values);
+
+    Assertions.assertThat(username.getAttribute("value")).isEqualTo("Wilma's");
+    Assertions.assertThat(webDriver.findElement(id("shower")).isDisplayed()).isFalse();
+    Assertions.assertThat(ngWebDriver.retrieveAsString(username, "dayColors[0].color")).isEqualTo("blue");
+  }
+
+  @Test
+  public void scope_variables_can_be_changed_with_a_digest_of_their_own_scope_only() {
+
+    webDriver.get("http://localhost:8080/#/form");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    WebElement username = webDriver.findElement(ByAngular.model("username"));
+
+    double millis = ngWebDriver.mutate(username, "username", "'Betty'", Digest.SCOPE);
+    Assertions.assertThat(millis).isGreaterThanOrEqualTo(0);
+    Assertions.assertThat(username.getAttribute("value")).isEqualTo("Betty");
+
+    Map<String, Object> values = new HashMap<>();
+    values.put("username", "Barney");
+    ngWebDriver.mutateAll(username, values, Digest.SCOPE_OR_ROOT);
+    Assertions.assertThat(username.getAttribute("value")).isEqualTo("Barney");
+  }
+
+  @Test
+  public void scope_variables_are_changed_once_when_the_scripts_are_installed_along_with_the_change() {
+
+    ByAngular.setInstallScriptsInPage(true);
+    try {
+      webDriver.get("http://localhost:8080/#/form");
+      ngWebDriver.waitForAngularRequestsToFinish();
+      WebElement username = webDriver.findElement(ByAngular.model("username"));
+
+      // as after a navigation, so the scripts are installed again along with the change
+      webDriver.executeScript("delete window.__ngwd;");
+
+      ngWebDriver.mutate(username, "mutations", "(angular.element(arguments[0]).scope().mutations || 0) + 1", Digest.SCOPE);
+      Assertions.assertThat(ngWebDriver.retrieveAsLong(username, "mutations")).isEqualTo(1L);
+    } finally {
+      ByAngular.setInstallScriptsInPage(false);
+    }
+  }
+
   //  All the failure tests
 
   @Test
@@ -561,6 +784,78 @@ public class AngularAndWebDriverTest {
     fwd.div(id("inside-ng")).getText().shouldBe("3");
   }
 
+  @Test
+  public void angular_hooks_are_looked_up_again_when_the_app_root_is_replaced() {
+
+    webDriver.get("http://localhost:8080/rebootstrap.html");
+    NgWebDriver rebooted = new NgWebDriver(webDriver).withRootSelector("#root");
+    ByAngular.Factory byAngular = rebooted.makeByAngularFactory();
+    rebooted.waitForAngularRequestsToFinish();
+
+    // count the lookups of the app's $$testability, starting with none cached
+    webDriver.executeScript("delete window.__ngwdNg1Hooks; window.lookups = 0;" +
+      "var getTestability = angular.getTestability;" +
+      "angular.getTestability = function() { window.lookups++; return getTestability.apply(this, arguments); };");
+
+    Assertions.assertThat(webDriver.findElement(byAngular.repeater("day in days").row(1).column("day")).getText())
+      .isEqualTo("first Tuesday");
+    Assertions.assertThat(webDriver.executeScript("return window.lookups;")).isEqualTo(1L);
+    Assertions.assertThat(webDriver.findElements(byAngular.repeater("day in days").column("day"))).hasSize(3);
+    Assertions.assertThat(webDriver.executeScript("return window.lookups;")).isEqualTo(1L);
+
+    // a new root element, with a new injector
+    webDriver.executeScript("boot('second');");
+    rebooted.waitForAngularRequestsToFinish();
+
+    Assertions.assertThat(webDriver.executeScript("return window.lookups;")).isEqualTo(2L);
+    Assertions.assertThat(webDriver.executeScript(
+      "return window.__ngwdNg1Hooks['hooks #root'].root === document.getElementById('root');")).isEqualTo(true);
+    Assertions.assertThat(webDriver.findElement(byAngular.repeater("day in days").row(1).column("day")).getText())
+      .isEqualTo("second Tuesday");
+    Assertions.assertThat(rebooted.values(byAngular.model("label"))).containsExactly("second");
+  }
+
+  @Test
+  public void models_and_options_with_quotes_and_backslashes_are_found() {
+
+    webDriver.get("http://localhost:8080/quoted.html");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    Assertions.assertThat(webDriver.findElement(ByAngular.model("names[\"first\"]")).getAttribute("id"))
+      .isEqualTo("double-quoted");
+    Assertions.assertThat(webDriver.findElement(ByAngular.model("names['first']")).getAttribute("id"))
+      .isEqualTo("single-quoted");
+    Assertions.assertThat(webDriver.findElement(ByAngular.model("names['a\\\\b']")).getAttribute("id"))
+      .isEqualTo("backslash");
+    Assertions.assertThat(webDriver.findElements(ByAngular.options("c for c in colours[\"warm\"]"))).hasSize(2);
+  }
+
+  @Test
+  public void quoted_models_and_options_find_the_same_elements_by_css_selector_as_by_script() {
+
+    webDriver.get("http://localhost:8080/quoted.html");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    // the expressions of quoted.html, quoted and escaped in CSS selectors made by Java, or by the page's script
+    List<By> locators = Arrays.asList(ByAngular.model("names[\"first\"]"), ByAngular.model("names['first']"),
+      ByAngular.model("names['a\\\\b']"), ByAngular.options("c for c in colours[\"warm\"]"));
+
+    List<List<WebElement>> byScript = new ArrayList<>();
+    for (By locator : locators) {
+      byScript.add(webDriver.findElements(locator));
+    }
+
+    ByAngular.setNativeSelectors(true);
+    try {
+      for (int i = 0; i < locators.size(); i++) {
+        Assertions.assertThat(webDriver.findElements(locators.get(i))).as(locators.get(i).toString())
+          .isNotEmpty().containsExactlyElementsOf(byScript.get(i));
+      }
+    } finally {
+      ByAngular.setNativeSelectors(false);
+    }
+  }
+
   /*
     Ported from protractor/spec/basic/action_spec.js
    */
@@ -788,6 +1083,76 @@ public class AngularAndWebDriverTest {
     }
   }
 
+  @Test
+  public void repeater_rows_are_read_as_a_table_in_one_go() {
+
+    webDriver.get("http://localhost:8080/index.html#/repeater");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    List<List<String>> texts = ByAngular.repeater("allinfo in days").snapshotTexts(webDriver, "allinfo.initial", "allinfo.name");
+    Assertions.assertThat(texts).hasSize(5);
+    Assertions.assertThat(texts.get(1)).containsExactly("T", "Tuesday");
+
+    // ng-repeat-start segments are rows too
+    texts = ByAngular.repeater("bloop in days").snapshotTexts(webDriver, "bloop.initial", "bloop.name");
+    Assertions.assertThat(texts.get(4)).containsExactly("F", "Friday");
+
+    List<List<Object>> values = ByAngular.repeater("baz in days | filter:'T'").snapshotValues(webDriver, "baz.name", "$index");
+    Assertions.assertThat(values).hasSize(2);
+    Assertions.assertThat(values.get(1)).containsExactly("Thursday", 1L);
+  }
+
+  @Test
+  public void repeater_rows_can_be_streamed_a_page_at_a_time() {
+
+    webDriver.get("http://localhost:8080/index.html#/repeater");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    List<String> initials = ByAngular.repeater("allinfo in days").stream(webDriver, 2)
+      .map(row -> row.findElement(ByAngular.binding("allinfo.initial")).getText())
+      .collect(Collectors.toList());
+
+    Assertions.assertThat(initials).containsExactly("M", "T", "W", "Th", "F");
+  }
+
+  @Test
+  public void repeater_rows_can_be_held_by_their_identity() {
+
+    webDriver.get("http://localhost:8080/index.html#/repeater");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    RepeaterRowHandle tuesday = ByAngular.repeater("allinfo in days").rowHandle(webDriver, 1);
+    Assertions.assertThat(tuesday.getIdentity()).startsWith("$id ");
+
+    String name = tuesday.apply(row -> row.findElement(ByAngular.binding("allinfo.name")).getText());
+    Assertions.assertThat(name).isEqualTo("Tuesday");
+
+    // found again by identity, it is the same row
+    Assertions.assertThat(tuesday.refresh().getElement()).isEqualTo(ByAngular.repeater("allinfo in days").row(1).findElement(webDriver));
+  }
+
+  @Test
+  public void repeater_row_handles_follow_their_rows_when_the_rows_are_reordered() {
+
+    webDriver.get("http://localhost:8080/reorder.html");
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    RepeaterRowHandle tom = ByAngular.repeater("cat in cats").rowHandle(webDriver, 0);
+    Assertions.assertThat(tom.getIdentity()).isEqualTo("track by 1");
+    RepeaterRowHandle rex = ByAngular.repeater("dog in dogs").rowHandle(webDriver, 0);
+    Assertions.assertThat(rex.getIdentity()).startsWith("$id ");
+
+    webDriver.findElement(id("reverse-cats")).click();
+    webDriver.findElement(id("reverse-dogs")).click();
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    // each is now the last row, and still found by what identifies it
+    Assertions.assertThat(tom.refresh().getElement().getText()).isEqualTo("Tom");
+    Assertions.assertThat(tom.getElement()).isEqualTo(ByAngular.repeater("cat in cats").row(2).findElement(webDriver));
+    Assertions.assertThat(rex.refresh().getElement().getText()).isEqualTo("Rex");
+    Assertions.assertThat(rex.getElement()).isEqualTo(ByAngular.repeater("dog in dogs").row(2).findElement(webDriver));
+  }
+
   /*
     Ported from protractor/spec/basic/lib_spec.js
     TODO - many more specs in here
@@ -0,0 +1,196 @@
+package com.paulhammant.ngwebdriver;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.DefaultHandler;
+import org.eclipse.jetty.server.handler.HandlerList;
+import org.eclipse.jetty.server.handler.ResourceHandler;
+import org.eclipse.jetty.util.log.Log;
+import org.eclipse.jetty.util.log.StdErrLog;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.openqa.selenium.By;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency percentiles of every ByAngular locator, and of waitForAngularRequestsToFinish(), in headless Chrome
+ * against the generated fixtures of src/test/webapp/bench. Not a test, run it with:
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.paulhammant.ngwebdriver.BrowserBenchmark
+ * </pre>
+ * System properties choose the fixture sizes and the number of runs: bench.rows (a comma separated list,
+ * default "1000,10000,50000"), bench.bindings, bench.models, bench.depth, bench.angular ("1.3.13" or "1.2.9"),
+ * bench.warmups and bench.iterations. bench.nativeSelectors=true has model and options locators use CSS
+ * selectors rather than scripts.
+ * <p>
+ * The results are also written as CSV to target/browser-benchmark.csv (or bench.out), a line per fixture size and
+ * scenario. Given a CSV from an earlier run as bench.baseline, each p50 is printed with its change from that run's.
+ */
+public class BrowserBenchmark {
+
+  private static final int PORT = Integer.getInteger("bench.port", 8089);
+
+  private final ChromeDriver webDriver;
+  private final NgWebDriver ngWebDriver;
+  private final int warmups = Integer.getInteger("bench.warmups", 5);
+  private final int iterations = Integer.getInteger("bench.iterations", 30);
+  private final String angular = System.getProperty("bench.angular", "1.3.13");
+
+  private static final String CSV_HEADER = "rows,angular,nativeSelectors,scenario,p50,p90,p99,max";
+  private final List<String> csv = new ArrayList<>();
+  // p50 by rows and scenario, from bench.baseline
+  private final Map<String, Double> baseline;
+
+  BrowserBenchmark(ChromeDriver webDriver, Map<String, Double> baseline) {
+    this.webDriver = webDriver;
+    this.ngWebDriver = new NgWebDriver(webDriver);
+    this.baseline = baseline;
+  }
+
+  public static void main(String[] args) throws Exception {
+    ((StdErrLog) Log.getRootLogger()).setLevel(StdErrLog.LEVEL_OFF);
+    Server webServer = new Server(new QueuedThreadPool(6));
+    ServerConnector connector = new ServerConnector(webServer, new HttpConnectionFactory());
+    connector.setPort(PORT);
+    webServer.addConnector(connector);
+    ResourceHandler resource_handler = new ResourceHandler();
+    resource_handler.setResourceBase("src/test/webapp");
+    HandlerList handlers = new HandlerList();
+    handlers.setHandlers(new Handler[]{resource_handler, new DefaultHandler()});
+    webServer.setHandler(handlers);
+    webServer.start();
+
+    ByAngular.setNativeSelectors(Boolean.parseBoolean(System.getProperty("bench.nativeSelectors", "false")));
+    ChromeOptions options = new ChromeOptions();
+    options.setHeadless(true);
+    options.addArguments("--window-size=1280,1024");
+    ChromeDriver webDriver = new ChromeDriver(options);
+    webDriver.manage().timeouts().setScriptTimeout(120, TimeUnit.SECONDS);
+    try {
+      String baseline = System.getProperty("bench.baseline");
+      BrowserBenchmark benchmark = new BrowserBenchmark(webDriver,
+        baseline == null ? new HashMap<>() : readBaseline(new File(baseline)));
+      for (String rows : System.getProperty("bench.rows", "1000,10000,50000").split(",")) {
+        benchmark.run(Integer.parseInt(rows.trim()));
+      }
+      File out = new File(System.getProperty("bench.out", "target/browser-benchmark.csv"));
+      benchmark.write(out);
+      System.out.println();
+      System.out.println("Results written to " + out);
+    } finally {
+      webDriver.quit();
+      webServer.stop();
+    }
+  }
+
+  void run(int rows) {
+    String url = "http://localhost:" + PORT + "/bench/bench.html?rows=" + rows +
+      "&bindings=" + Integer.getInteger("bench.bindings", 1000) +
+      "&models=" + Integer.getInteger("bench.models", 1000) +
+      "&depth=" + Integer.getInteger("bench.depth", 10) +
+      "&angular=" + angular;
+    webDriver.get(url);
+    ngWebDriver.waitForAngularRequestsToFinish();
+
+    System.out.println();
+    System.out.println(url);
+    System.out.println(String.format("%-36s %10s %10s %10s %10s %10s", "ms", "p50", "p90", "p99", "max",
+      baseline.isEmpty() ? "" : "p50 vs base"));
+    for (Map.Entry<String, Runnable> scenario : scenarios(rows).entrySet()) {
+      report(rows, scenario.getKey(), measure(scenario.getValue()));
+    }
+  }
+
+  private Map<String, Runnable> scenarios(int rows) {
+    Map<String, Runnable> scenarios = new LinkedHashMap<>();
+    scenarios.put("waitForAngularRequestsToFinish", () -> ngWebDriver.waitForAngularRequestsToFinish());
+    scenarios.put("repeater findElement", findElement(ByAngular.repeater("row in rows")));
+    scenarios.put("repeater findElements", findElements(ByAngular.repeater("row in rows")));
+    scenarios.put("exactRepeater findElements", findElements(ByAngular.exactRepeater("row in rows")));
+    scenarios.put("repeater row (middle)", findElement(ByAngular.repeater("row in rows").row(rows / 2)));
+    scenarios.put("repeater cell (middle)", findElement(ByAngular.repeater("row in rows").row(rows / 2).column("row.name")));
+    scenarios.put("repeater column findElements", findElements(ByAngular.repeater("row in rows").column("row.name")));
+    scenarios.put("binding findElement", findElement(ByAngular.binding("needle")));
+    scenarios.put("binding findElements", findElements(ByAngular.binding("label")));
+    scenarios.put("exactBinding findElement", findElement(ByAngular.exactBinding("needle")));
+    scenarios.put("model findElement", findElement(ByAngular.model("needleModel")));
+    scenarios.put("model findElements", findElements(ByAngular.model("field.value")));
+    scenarios.put("options findElements", findElements(ByAngular.options("option for option in options")));
+    scenarios.put("buttonText findElement", findElement(ByAngular.buttonText("Needle")));
+    scenarios.put("partialButtonText findElement", findElement(ByAngular.partialButtonText("Needl")));
+    scenarios.put("cssContainingText findElement", findElement(ByAngular.cssContainingText("button", "Needle")));
+    return scenarios;
+  }
+
+  private Runnable findElement(final By by) {
+    return () -> webDriver.findElement(by);
+  }
+
+  private Runnable findElements(final By by) {
+    return () -> webDriver.findElements(by);
+  }
+
+  private long[] measure(Runnable scenario) {
+    for (int i = 0; i < warmups; i++) {
+      scenario.run();
+    }
+    long[] nanos = new long[iterations];
+    for (int i = 0; i < iterations; i++) {
+      long start = System.nanoTime();
+      scenario.run();
+      nanos[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(nanos);
+    return nanos;
+  }
+
+  private void report(int rows, String scenario, long[] sortedNanos) {
+    double p50 = percentile(sortedNanos, 50);
+    double p90 = percentile(sortedNanos, 90);
+    double p99 = percentile(sortedNanos, 99);
+    double max = sortedNanos[sortedNanos.length - 1] / 1e6;
+    Double base = baseline.get(rows + "," + scenario);
+    System.out.println(String.format("%-36s %10.2f %10.2f %10.2f %10.2f %10s", scenario, p50, p90, p99, max,
+      base == null ? "" : String.format("%+.0f%%", (p50 / base - 1) * 100)));
+    csv.add(String.format("%d,%s,%s,%s,%.3f,%.3f,%.3f,%.3f", rows, angular, ByAngular.isNativeSelectors(), scenario,
+      p50, p90, p99, max));
+  }
+
+  void write(File out) throws IOException {
+    List<String> lines = new ArrayList<>();
+    lines.add(CSV_HEADER);
+    lines.addAll(csv);
+    File dir = out.getAbsoluteFile().getParentFile();
+    dir.mkdirs();
+    Files.write(out.toPath(), lines, StandardCharsets.UTF_8);
+  }
+
+  private static Map<String, Double> readBaseline(File file) throws IOException {
+    Map<String, Double> p50s = new HashMap<>();
+    List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+    for (String line : lines.subList(1, lines.size())) {
+      String[] fields = line.split(",");
+      p50s.put(fields[0] + "," + fields[3], Double.parseDouble(fields[4]));
+    }
+    return p50s;
+  }
+
+  private static double percentile(long[] sortedNanos, int percentile) {
+    int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+    return sortedNanos[Math.max(0, index)] / 1e6;
+  }
+}
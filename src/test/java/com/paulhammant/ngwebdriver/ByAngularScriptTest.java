@@ -0,0 +1,482 @@
+package com.paulhammant.ngwebdriver;
+
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ByAngularScriptTest {
+
+    @Test
+    public void locators_of_one_kind_send_the_same_script_with_their_parameters_as_arguments() {
+        RecordingExecutor executor = new RecordingExecutor(Collections.singletonList(new RemoteWebElement()));
+
+        ByAngular.model("person.name").findElements(executor);
+        ByAngular.withRootSelector("#other").model("it's \"quoted\"").findElements(executor);
+
+        Assertions.assertThat(executor.scripts.get(1)).isSameAs(executor.scripts.get(0));
+        Assertions.assertThat(executor.scripts.get(0)).doesNotContain("person.name");
+        Assertions.assertThat(executor.args.get(0)).containsExactly("person.name", executor, "[ng-app]", 0);
+        Assertions.assertThat(executor.args.get(1)).containsExactly("it's \"quoted\"", executor, "#other", 0);
+    }
+
+    @Test
+    public void repeater_locators_pass_row_and_column_as_arguments() {
+        RecordingExecutor executor = new RecordingExecutor(Collections.singletonList(new RemoteWebElement()));
+
+        ByAngular.repeater("day in days | filter:'T'").row(2).column("day.name").findElement(executor);
+
+        Assertions.assertThat(executor.args.get(0)).containsExactly("day in days | filter:'T'", false, 2, "day.name", executor, "[ng-app]", 1);
+    }
+
+    @Test
+    public void find_element_asks_the_page_for_the_first_match_only() {
+        RecordingExecutor executor = new RecordingExecutor(Collections.singletonList(new RemoteWebElement()));
+
+        ByAngular.buttonText("Go").findElement(executor);
+
+        Assertions.assertThat(executor.args.get(0)).containsExactly("Go", executor, 1);
+    }
+
+    @Test
+    public void scripts_are_sent_without_comments_or_indentation_but_strings_and_regexes_intact() {
+        String js = "\n  // the name\n  var a = '// not a comment', b = \"/* nor this */\";\n" +
+                "  /* gone */ var c = a.replace(/\\/[/]/g, '') / 2;\n\n  return c;\n";
+
+        Assertions.assertThat(JsMinifier.minify(js)).isEqualTo(
+                "var a = '// not a comment', b = \"/* nor this */\";\nvar c = a.replace(/\\/[/]/g, '') / 2;\nreturn c;");
+    }
+
+    @Test
+    public void the_index_built_from_the_scripts_has_the_same_functions_as_parsing_them() {
+        Map<String, String> parsed = new HashMap<>();
+        Map<String, String> parsedParameters = new HashMap<>();
+        String src = ByAngular.readClientSideScripts();
+        ByAngular.iterateOverJsFunctionsInSource(src, parsed, parsedParameters);
+        Map<String, String> loaded = new HashMap<>();
+        Map<String, String> loadedParameters = new HashMap<>();
+
+        Assertions.assertThat(ScriptCatalog.load(src, loaded, loadedParameters)).isTrue();
+        Assertions.assertThat(loaded).isEqualTo(parsed);
+        Assertions.assertThat(loadedParameters).isEqualTo(parsedParameters);
+    }
+
+    @Test
+    public void an_index_built_from_another_version_of_the_scripts_is_not_used() throws IOException {
+        String js = "function one(a) {\n  return a;\n}\n";
+        Map<String, String> functions = new HashMap<>();
+        Map<String, String> functionParameters = new HashMap<>();
+        ScriptCatalog.parse(js, functions, functionParameters, true);
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        ScriptCatalog.write(js, functions, functionParameters, new DataOutputStream(index));
+
+        Map<String, String> loaded = new HashMap<>();
+        Assertions.assertThat(ScriptCatalog.read(new DataInputStream(new ByteArrayInputStream(index.toByteArray())),
+                js, loaded, new HashMap<>())).isTrue();
+        Assertions.assertThat(loaded).isEqualTo(functions);
+
+        loaded.clear();
+        Assertions.assertThat(ScriptCatalog.read(new DataInputStream(new ByteArrayInputStream(index.toByteArray())),
+                js.replace("return a", "return b"), loaded, new HashMap<>())).isFalse();
+        Assertions.assertThat(loaded).isEmpty();
+    }
+
+    @Test
+    public void a_function_without_an_end_is_reported_with_its_line() {
+        String js = "function one(a) {\n  return a;\n}\n\nfunction two(b) {\n  return b;\n";
+
+        Assertions.assertThatThrownBy(() -> ScriptCatalog.parse(js, new HashMap<>(), new HashMap<>(), true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 5");
+    }
+
+    @Test
+    public void models_and_options_are_found_with_the_drivers_own_css_selectors() {
+        List<By> searches = new ArrayList<>();
+        WebElement form = (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{WebElement.class},
+                (proxy, method, args) -> {
+                    searches.add((By) args[0]);
+                    return Collections.singletonList(new RemoteWebElement());
+                });
+
+        ByAngular.setNativeSelectors(true);
+        try {
+            Assertions.assertThat(ByAngular.model("it's \"quoted\"").findElements(form)).hasSize(1);
+            Assertions.assertThat(ByAngular.options("c for c in colors").findElements(form)).hasSize(1);
+        } finally {
+            ByAngular.setNativeSelectors(false);
+        }
+
+        Assertions.assertThat(searches).containsExactly(
+                By.cssSelector("[ng-model=\"it's \\\"quoted\\\"\"], [ng_model=\"it's \\\"quoted\\\"\"], " +
+                        "[data-ng-model=\"it's \\\"quoted\\\"\"], [x-ng-model=\"it's \\\"quoted\\\"\"], " +
+                        "[ng\\:model=\"it's \\\"quoted\\\"\"]"),
+                By.cssSelector("[ng-options=\"c for c in colors\"] option, [ng_options=\"c for c in colors\"] option, " +
+                        "[data-ng-options=\"c for c in colors\"] option, [x-ng-options=\"c for c in colors\"] option, " +
+                        "[ng\\:options=\"c for c in colors\"] option"));
+    }
+
+    @Test
+    public void locators_can_look_in_the_pages_cache_of_results_first() {
+        RecordingExecutor executor = new RecordingExecutor(Collections.singletonList(new RemoteWebElement()));
+
+        ByAngular.setCacheResultsInPage(true);
+        try {
+            ByAngular.binding("person.name").findElements(executor);
+        } finally {
+            ByAngular.setCacheResultsInPage(false);
+        }
+
+        Assertions.assertThat(executor.scripts.get(0)).contains("'findBindings', function(binding, exactMatch, using, rootSelector, limit) {");
+        Assertions.assertThat(executor.args.get(0)).containsExactly("person.name", false, executor, "[ng-app]", 0);
+    }
+
+    @Test
+    public void many_locators_are_found_with_one_script() {
+        WebElement found = new RemoteWebElement();
+        RecordingExecutor executor = new RecordingExecutor(Arrays.asList(Collections.singletonList(found), Collections.emptyList()));
+
+        Map<String, By> locators = new LinkedHashMap<>();
+        locators.put("name", ByAngular.model("person.name"));
+        locators.put("missing", ByAngular.binding("nope"));
+        FoundElements elements = ByAngular.findAll(executor, locators);
+
+        Assertions.assertThat(executor.scripts).hasSize(1);
+        Assertions.assertThat(elements.keySet()).containsExactly("name", "missing");
+        Assertions.assertThat(elements.findElement("name")).isSameAs(found);
+        Assertions.assertThat(elements.get("missing")).isEmpty();
+        try {
+            elements.findElements("missing");
+            Assertions.fail("should have barfed");
+        } catch (NoSuchElementException e) {
+            Assertions.assertThat(e.getMessage()).startsWith("bindings(nope) didn't have any matching elements at this place in the DOM");
+        }
+    }
+
+    @Test
+    public void counting_sends_back_only_a_number() {
+        RecordingExecutor executor = new RecordingExecutor(5L, 0L);
+
+        Assertions.assertThat(ByAngular.repeater("day in days").count(executor)).isEqualTo(5);
+        Assertions.assertThat(ByAngular.binding("error").exists(executor)).isFalse();
+
+        Assertions.assertThat(executor.scripts.get(0)).endsWith("return found ? found.length : 0;");
+        Assertions.assertThat(executor.args.get(0)).containsExactly("day in days", false, executor, 0);
+        Assertions.assertThat(executor.args.get(1)).containsExactly("error", false, executor, "[ng-app]", 1);
+    }
+
+    @Test
+    public void attributes_are_read_in_the_script_that_finds_the_elements() {
+        RecordingExecutor executor = new RecordingExecutor(Arrays.asList("a", null));
+
+        List<String> classes = ByAngular.buttonText("Go").attributes(executor, "class");
+
+        Assertions.assertThat(classes).containsExactly("a", null);
+        Assertions.assertThat(executor.scripts).hasSize(1);
+        Assertions.assertThat(executor.args.get(0)).containsExactly("Go", executor, 0, "class");
+    }
+
+    @Test
+    public void texts_can_be_read_with_an_executor_that_cannot_find_elements_given_where_to_search() {
+        RecordingExecutor context = new RecordingExecutor(Arrays.asList("M", "T"));
+        JavascriptExecutor executorOnly = new JavascriptExecutor() {
+            public Object executeScript(String script, Object... args) {
+                return context.executeScript(script, args);
+            }
+
+            public Object executeAsyncScript(String script, Object... args) {
+                return context.executeAsyncScript(script, args);
+            }
+        };
+        NgWebDriver ngWebDriver = new NgWebDriver(executorOnly);
+
+        Assertions.assertThat(ngWebDriver.texts(context, ByAngular.repeater("day in days"))).containsExactly("M", "T");
+        Assertions.assertThatThrownBy(() -> ngWebDriver.texts(ByAngular.repeater("day in days")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("pass the driver or an element to search within");
+    }
+
+    @Test
+    public void texts_for_another_driver_are_read_in_that_drivers_session() {
+        RecordingExecutor own = new RecordingExecutor(Collections.emptyList());
+        RecordingExecutor other = new RecordingExecutor(Arrays.asList("Hello"));
+        By heading = new By() {
+            public List<WebElement> findElements(SearchContext context) {
+                return Collections.singletonList(new RemoteWebElement());
+            }
+        };
+
+        List<String> texts = new NgWebDriver(own).texts(other, heading);
+
+        Assertions.assertThat(texts).containsExactly("Hello");
+        Assertions.assertThat(own.scripts).isEmpty();
+        Assertions.assertThat(other.scripts).hasSize(1);
+    }
+
+    @Test
+    public void scope_variables_that_are_null_are_told_apart_from_missing_ones() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("person.name", "Fred");
+        values.put("person.age", null);
+        Map<String, Object> result = new HashMap<>();
+        result.put("values", values);
+        result.put("missing", Collections.singletonList("person.height"));
+        RecordingExecutor executor = new RecordingExecutor(result);
+
+        ScopeValues scopeValues = new NgWebDriver(executor).retrieveAll(new RemoteWebElement(), "person.name", "person.age", "person.height");
+
+        Assertions.assertThat(scopeValues.getAsString("person.name")).isEqualTo("Fred");
+        Assertions.assertThat(scopeValues.get("person.age")).isNull();
+        Assertions.assertThat(scopeValues.getAsLong("person.age")).isNull();
+        Assertions.assertThat(scopeValues.isMissing("person.age")).isFalse();
+        Assertions.assertThat(scopeValues.asMap()).containsKey("person.age");
+        Assertions.assertThatThrownBy(() -> scopeValues.get("person.height")).isInstanceOf(VariableNotInScopeException.class);
+    }
+
+    @Test
+    public void a_timed_wait_passes_its_timeout_and_reports_the_outcome() {
+        Map<String, Object> outcome = new HashMap<>();
+        outcome.put("millis", 12.5);
+        outcome.put("awaited", Arrays.asList("angularjs", "angular #0"));
+        outcome.put("timedOut", true);
+        outcome.put("error", null);
+        RecordingExecutor executor = new RecordingExecutor(outcome);
+
+        WaitResult wait = new NgWebDriver(executor).waitForAngularRequestsToFinish(250);
+
+        Assertions.assertThat(executor.args.get(0)).containsExactly("[ng-app]", 250L);
+        Assertions.assertThat(wait.isTimedOut()).isTrue();
+        Assertions.assertThat(wait.isStable()).isFalse();
+        Assertions.assertThat(wait.getMillis()).isEqualTo(12.5);
+        Assertions.assertThat(wait.getAwaited()).containsExactly("angularjs", "angular #0");
+    }
+
+    @Test
+    public void an_auto_syncing_driver_waits_for_angular_before_a_script_that_follows_a_change() {
+        List<String> calls = new ArrayList<>();
+        WebDriver browser = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                    calls.add(method.getName());
+                    return null;
+                });
+        AutoSyncingWebDriver driver = new AutoSyncingWebDriver(browser);
+
+        driver.executeScript("return 1;");
+        driver.sync();
+
+        // the first script follows the driver being made, and the wait after it follows the script
+        Assertions.assertThat(calls).containsExactly("executeAsyncScript", "executeScript", "executeAsyncScript");
+        Assertions.assertThat(driver.isDirty()).isFalse();
+    }
+
+    @Test
+    public void async_operations_of_one_session_run_in_the_order_called() throws Exception {
+        RecordingExecutor executor = new RecordingExecutor("http://localhost/#/form", Arrays.asList("T", "Th"));
+        NgWebDriverAsync async = new NgWebDriverAsync(new NgWebDriver(executor));
+
+        CompletableFuture<String> url = async.getLocationAbsUrl();
+        CompletableFuture<List<String>> texts = async.texts(ByAngular.repeater("day in days").column("day.initial"));
+
+        Assertions.assertThat(texts.get(5, TimeUnit.SECONDS)).containsExactly("T", "Th");
+        Assertions.assertThat(url.get()).isEqualTo("http://localhost/#/form");
+        Assertions.assertThat(executor.args.get(0)).containsExactly("[ng-app]");
+    }
+
+    @Test
+    public void listeners_are_told_about_each_script_and_its_time_in_the_browser() {
+        Map<String, Object> timed = new HashMap<>();
+        timed.put("ngwdResult", Arrays.asList(new RemoteWebElement(), new RemoteWebElement()));
+        timed.put("ngwdMillis", 1.5);
+        RecordingExecutor executor = new RecordingExecutor(timed);
+        List<ScriptEvent> events = new ArrayList<>();
+        NgWebDriverListener listener = events::add;
+        ScriptStatistics statistics = new ScriptStatistics();
+        ByAngular.addListener(listener);
+        ByAngular.addListener(statistics);
+        try {
+            List<WebElement> found = ByAngular.model("person.name").findElements(executor);
+
+            Assertions.assertThat(found).hasSize(2);
+            Assertions.assertThat(executor.scripts.get(0)).contains("ngwdMillis");
+        } finally {
+            ByAngular.removeListener(listener);
+            ByAngular.removeListener(statistics);
+        }
+
+        Assertions.assertThat(events).hasSize(1);
+        ScriptEvent event = events.get(0);
+        Assertions.assertThat(event.getKind()).isEqualTo("ByAngularModel");
+        Assertions.assertThat(event.getDescription()).isEqualTo("model(person.name)");
+        Assertions.assertThat(event.getResultCount()).isEqualTo(2);
+        Assertions.assertThat(event.getBrowserMillis()).isEqualTo(1.5);
+        Assertions.assertThat(event.getScriptBytes()).isGreaterThan(100);
+        Assertions.assertThat(statistics.getCount("ByAngularModel")).isEqualTo(1);
+        Assertions.assertThat(statistics.getBrowserMillis("ByAngularModel", 50)).isCloseTo(1.5, Assertions.within(0.2));
+        Assertions.assertThat(statistics.report()).contains("ByAngularModel");
+    }
+
+    @Test
+    public void histogram_percentiles_are_within_an_eighth() {
+        ScriptStatistics.Histogram histogram = new ScriptStatistics.Histogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        Assertions.assertThat(histogram.count()).isEqualTo(1000);
+        Assertions.assertThat(histogram.percentile(50)).isBetween(500000L, 562500L);
+        Assertions.assertThat(histogram.percentile(99)).isBetween(990000L, 1000000L);
+        Assertions.assertThat(histogram.percentile(100)).isEqualTo(1000000L);
+    }
+
+    @Test
+    public void statements_before_an_installed_function_run_once_when_the_scripts_are_installed_again() {
+        RecordingExecutor executor = new RecordingExecutor(ByAngular.NOT_INSTALLED, 1.0);
+        ByAngular.setInstallScriptsInPage(true);
+        try {
+            ByAngular.executeAfter(executor, "count = count + 1;\n", "digestScope", null, "[ng-app]", "ROOT");
+        } finally {
+            ByAngular.setInstallScriptsInPage(false);
+        }
+
+        // the first script finds nothing installed, and must return before changing anything
+        String first = executor.scripts.get(0);
+        Assertions.assertThat(first.indexOf("return '" + ByAngular.NOT_INSTALLED + "'")).isLessThan(first.indexOf("count = count + 1"));
+        Assertions.assertThat(executor.scripts.get(1)).contains(ByAngular.INSTALLED_NAMESPACE + " = ");
+        Assertions.assertThat(executor.scripts.get(1).split("count = count \\+ 1", -1)).hasSize(2);
+    }
+
+    @Test
+    public void repeater_rows_are_fetched_a_page_at_a_time() {
+        RemoteWebElement second = new RemoteWebElement();
+        RecordingExecutor executor = new RecordingExecutor(page(3L, 2, new RemoteWebElement(), second),
+                page(null, 1, new RemoteWebElement()));
+
+        Iterator<WebElement> rows = ByAngular.repeater("day in days").iterator(executor, 2);
+        int count = 0;
+        while (rows.hasNext()) {
+            rows.next();
+            count++;
+        }
+
+        Assertions.assertThat(count).isEqualTo(3);
+        Assertions.assertThat(executor.args).hasSize(2);
+        // only the first page counts the rows, and the next starts after the last row of the one before
+        Assertions.assertThat(executor.args.get(0)).containsExactly("day in days", false, null, 2, true, executor);
+        Assertions.assertThat(executor.args.get(1)).containsExactly("day in days", false, second, 2, false, executor);
+    }
+
+    @Test
+    public void repeater_pages_are_counted_in_rows_not_elements() {
+        // two ng-repeat-start segments of two elements, then one of one
+        RecordingExecutor executor = new RecordingExecutor(
+                page(3L, 2, new RemoteWebElement(), new RemoteWebElement(), new RemoteWebElement(), new RemoteWebElement()),
+                page(null, 1, new RemoteWebElement()));
+
+        long count = ByAngular.repeater("day in days").stream(executor, 2).count();
+
+        Assertions.assertThat(count).isEqualTo(5);
+        Assertions.assertThat(executor.args).hasSize(2);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void paging_through_a_repeater_that_loses_rows_fails() {
+        RecordingExecutor executor = new RecordingExecutor(page(3L, 2, new RemoteWebElement(), new RemoteWebElement()),
+                page(null, 0));
+
+        ByAngular.repeater("day in days").stream(executor, 2).count();
+    }
+
+    @Test
+    public void a_row_handle_finds_its_row_again_by_identity_when_the_row_goes_stale() {
+        RemoteWebElement before = new RemoteWebElement();
+        RemoteWebElement after = new RemoteWebElement();
+        Map<String, Object> identified = new HashMap<>();
+        identified.put("row", Collections.singletonList(before));
+        identified.put("identity", "track by 42");
+        RecordingExecutor executor = new RecordingExecutor(identified, Collections.singletonList(after));
+
+        RepeaterRowHandle row = ByAngular.exactRepeater("day in days").rowHandle(executor, 3);
+        List<WebElement> actedOn = new ArrayList<>();
+        Object result = row.apply(element -> {
+            actedOn.add(element);
+            if (element == before) {
+                throw new StaleElementReferenceException("re-rendered");
+            }
+            return "done";
+        });
+
+        Assertions.assertThat(result).isEqualTo("done");
+        Assertions.assertThat(actedOn).containsExactly(before, after);
+        Assertions.assertThat(row.getIdentity()).isEqualTo("track by 42");
+        Assertions.assertThat(executor.args.get(0)).containsExactly("day in days", true, 3, executor);
+        Assertions.assertThat(executor.args.get(1)).containsExactly("day in days", true, "track by 42", executor);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void a_row_handle_for_a_row_that_is_not_there_fails() {
+        ByAngular.repeater("day in days").rowHandle(new RecordingExecutor((Object) null), 3);
+    }
+
+    private static Map<String, Object> page(Long total, int size, WebElement... rows) {
+        Map<String, Object> page = new HashMap<>();
+        page.put("rows", Arrays.asList(rows));
+        page.put("size", (long) size);
+        page.put("last", rows.length == 0 ? null : rows[rows.length - 1]);
+        page.put("total", total);
+        return page;
+    }
+
+    static class RecordingExecutor implements JavascriptExecutor, SearchContext {
+
+        final List<String> scripts = new ArrayList<>();
+        final List<Object[]> args = new ArrayList<>();
+        private final List<Object> results;
+
+        RecordingExecutor(Object... results) {
+            this.results = new ArrayList<>(Arrays.asList(results));
+        }
+
+        public Object executeScript(String script, Object... args) {
+            this.scripts.add(script);
+            this.args.add(args);
+            return results.size() > 1 ? results.remove(0) : results.get(0);
+        }
+
+        public Object executeAsyncScript(String script, Object... args) {
+            return executeScript(script, args);
+        }
+
+        public List<WebElement> findElements(By by) {
+            return by.findElements(this);
+        }
+
+        public WebElement findElement(By by) {
+            return by.findElement(this);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+'use strict';
+
+function BenchCtrl($scope) {
+  var i;
+  $scope.rows = [];
+  for (i = 0; i < benchParams.rows; i++) {
+    $scope.rows.push({id: i, name: 'Row ' + i});
+  }
+  $scope.labels = [];
+  for (i = 0; i < benchParams.bindings; i++) {
+    $scope.labels.push('Label ' + i);
+  }
+  $scope.fields = [];
+  for (i = 0; i < benchParams.models; i++) {
+    $scope.fields.push({value: 'Field ' + i});
+  }
+  $scope.options = [];
+  for (i = 0; i < benchParams.options; i++) {
+    $scope.options.push('Option ' + i);
+  }
+  $scope.buttons = [];
+  for (i = 0; i < benchParams.buttons; i++) {
+    $scope.buttons.push('Button ' + i);
+  }
+  $scope.needle = 'found';
+  $scope.needleModel = 'found';
+}
+
+BenchCtrl.$inject = ['$scope'];
+
+function NestedCtrl($scope) {
+  $scope.level = ($scope.level || 0) + 1;
+}
+
+NestedCtrl.$inject = ['$scope'];
+
+angular.module('bench', []).
+  controller('BenchCtrl', BenchCtrl).
+  controller('NestedCtrl', NestedCtrl);
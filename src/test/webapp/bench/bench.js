@@ -0,0 +1,37 @@
+'use strict';
+
+// Builds a fixture as big as the query parameters ask, like
+// bench.html?rows=10000&bindings=2000&models=2000&options=100&buttons=100&depth=20&angular=1.3.13
+// then loads Angular (1.2.9 or 1.3.13) to compile it.
+var benchParams = (function() {
+  var params = {rows: 1000, bindings: 1000, models: 1000, options: 100, buttons: 100, depth: 10, angular: '1.3.13'};
+  var pairs = window.location.search.substring(1).split('&');
+  for (var i = 0; i < pairs.length; i++) {
+    var pair = pairs[i].split('=');
+    if (pair[0] in params) {
+      params[pair[0]] = pair[0] == 'angular' ? pair[1] : parseInt(pair[1], 10);
+    }
+  }
+  return params;
+})();
+
+(function(params) {
+  var html = [];
+  html.push('<ul class="rows"><li ng-repeat="row in rows"><span>{{row.id}}</span> <span>{{row.name}}</span></li></ul>');
+  html.push('<div class="bindings"><span ng-repeat="label in labels">{{label}}</span></div>');
+  html.push('<div class="models"><input ng-repeat="field in fields" ng-model="field.value"></div>');
+  html.push('<select ng-model="choice" ng-options="option for option in options"></select>');
+  html.push('<div class="buttons"><button ng-repeat="button in buttons">{{button}}</button></div>');
+  // the needles are at the bottom of a stack of nested scopes, after everything else
+  for (var i = 0; i < params.depth; i++) {
+    html.push('<div ng-controller="NestedCtrl">');
+  }
+  html.push('<span>{{needle}}</span> <input ng-model="needleModel"> <button>Needle</button>');
+  for (var i = 0; i < params.depth; i++) {
+    html.push('</div>');
+  }
+  document.getElementById('bench').innerHTML = html.join('\n');
+})(benchParams);
+
+document.write('<script src="../lib/angular_v' + benchParams.angular + '/angular.min.js"><\/script>');
+document.write('<script src="bench-app.js"><\/script>');